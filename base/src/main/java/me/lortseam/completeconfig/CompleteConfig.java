@@ -1,50 +1,43 @@
 package me.lortseam.completeconfig;
 
-import com.google.common.collect.Sets;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import me.lortseam.completeconfig.data.extension.DataExtension;
 import me.lortseam.completeconfig.data.extension.ClientDataExtension;
 import me.lortseam.completeconfig.data.extension.ServerDataExtension;
-import me.lortseam.completeconfig.extensions.clothbasicmath.ClothBasicMathExtension;
-import me.lortseam.completeconfig.extensions.clothconfig.ClothConfigClientDataExtension;
-import me.lortseam.completeconfig.extensions.minecraft.MinecraftClientDataExtension;
-import me.lortseam.completeconfig.util.ReflectionUtils;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.entrypoint.EntrypointContainer;
-import org.jetbrains.annotations.Nullable;
+import org.apache.commons.lang3.ClassUtils;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j(topic = "CompleteConfig")
 @UtilityClass
 public final class CompleteConfig {
 
-    private static final Set<Class<? extends Extension>> validExtensionTypes = Sets.newHashSet(DataExtension.class);
-    private static final Set<Extension> extensions = new HashSet<>();
+    private static final Set<Class<? extends Extension>> validExtensionTypes = ConcurrentHashMap.newKeySet();
+    private static final List<ExtensionDescriptor> pendingExtensions = new ArrayList<>();
+    private static final Set<Class<?>> resolvedExtensionTypes = ConcurrentHashMap.newKeySet();
+    private static final Map<Class<?>, List<Extension>> extensionsByType = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, List<Extension>> extensionViews = new ConcurrentHashMap<>();
+    private static boolean extendersLoaded;
 
     static {
+        validExtensionTypes.add(DataExtension.class);
         registerExtensionType(ClientDataExtension.class, EnvType.CLIENT);
         registerExtensionType(ServerDataExtension.class, EnvType.SERVER);
         for (EntrypointContainer<CompleteConfigInitializer> entrypoint : FabricLoader.getInstance().getEntrypointContainers("completeconfig", CompleteConfigInitializer.class)) {
             entrypoint.getEntrypoint().onInitializeCompleteConfig();
         }
-        registerExtension(MinecraftClientDataExtension.class);
-        registerExtension("cloth-basic-math", ClothBasicMathExtension.class);
-        registerExtension("cloth-config", ClothConfigClientDataExtension.class);
-        for (EntrypointContainer<CompleteConfigExtender> entrypoint : FabricLoader.getInstance().getEntrypointContainers("completeconfig-extender", CompleteConfigExtender.class)) {
-            var extender = entrypoint.getEntrypoint();
-            registerExtensions(extender.getExtensions());
-            var providedExtensions = extender.getProvidedExtensions();
-            if (providedExtensions != null) {
-                providedExtensions.forEach(CompleteConfig::registerExtension);
-            }
-        }
+        // Built-in extensions are registered by name, so their classes only get loaded when required
+        pendingExtensions.add(ExtensionDescriptor.of("me.lortseam.completeconfig.extensions.minecraft.MinecraftClientDataExtension"));
+        registerExtension("cloth-basic-math", ExtensionDescriptor.of("me.lortseam.completeconfig.extensions.clothbasicmath.ClothBasicMathExtension"));
+        registerExtension("cloth-config", ExtensionDescriptor.of("me.lortseam.completeconfig.extensions.clothconfig.ClothConfigClientDataExtension"));
     }
 
     /**
@@ -72,34 +65,118 @@ public final class CompleteConfig {
         registerExtensionType(extensionType, null, mods);
     }
 
-    private static void registerExtensions(@Nullable Collection<Class<? extends Extension>> extensions) {
-        if(extensions == null) return;
-        for (Class<? extends Extension> extension : extensions) {
-            registerExtension(extension);
+    /**
+     * Runs the extender entrypoints. They are only run once extensions are requested for the first time, so that the
+     * extension classes they reference are not loaded before. This happens on whichever thread requests extensions
+     * first, which is not necessarily the main thread, while the lock of this class is held.
+     */
+    private static void loadExtenders() {
+        if (extendersLoaded) return;
+        extendersLoaded = true;
+        for (EntrypointContainer<CompleteConfigExtender> entrypoint : FabricLoader.getInstance().getEntrypointContainers("completeconfig-extender", CompleteConfigExtender.class)) {
+            var extender = entrypoint.getEntrypoint();
+            var extensions = extender.getExtensions();
+            if (extensions != null) {
+                extensions.forEach(extension -> pendingExtensions.add(ExtensionDescriptor.of(extension)));
+            }
+            var providedExtensions = extender.getProvidedExtensions();
+            if (providedExtensions != null) {
+                providedExtensions.forEach((modId, extension) -> registerExtension(modId, ExtensionDescriptor.of(extension)));
+            }
         }
     }
 
-    private static void registerExtension(Extension extension) {
-        extensions.add(extension);
-        registerExtensions(extension.children());
+    private static void registerExtension(String modId, ExtensionDescriptor extension) {
+        if(!FabricLoader.getInstance().isModLoaded(modId)) return;
+        pendingExtensions.add(extension);
+    }
+
+    /**
+     * Instantiates all pending extensions of the specified type. Pending extensions which register child extensions
+     * are instantiated as well, since any of their children may be of that type.
+     */
+    private static synchronized void resolveExtensions(Class<? extends Extension> extensionType) {
+        if (resolvedExtensionTypes.contains(extensionType)) return;
+        loadExtenders();
+        // Extensions of types invalid in this environment are dropped before their classes get inspected any further
+        pendingExtensions.removeIf(extension -> !loadExtensionClass(extension) || !validExtensionTypes.containsAll(extension.getTypes()));
+        List<ExtensionDescriptor> extensions = new ArrayList<>();
+        pendingExtensions.removeIf(extension -> (extension.provides(extensionType) || extension.hasChildren()) && extensions.add(extension));
+        extensions.forEach(CompleteConfig::resolveExtension);
+        resolvedExtensionTypes.add(extensionType);
+    }
+
+    private static boolean loadExtensionClass(ExtensionDescriptor descriptor) {
+        try {
+            descriptor.loadClass();
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.error("Failed to load extension " + descriptor, e);
+            return false;
+        }
     }
 
-    private static void registerExtension(Class<? extends Extension> extension) {
-        if(!validExtensionTypes.containsAll(Arrays.asList(extension.getInterfaces()))) return;
+    private static void resolveExtension(ExtensionDescriptor descriptor) {
+        if(!validExtensionTypes.containsAll(descriptor.getTypes())) return;
+        Extension extension;
         try {
-            registerExtension(ReflectionUtils.instantiateClass(extension));
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-            logger.error("Failed to instantiate extension " + extension, e);
+            extension = descriptor.instantiate();
+        } catch (ReflectiveOperationException e) {
+            logger.error("Failed to instantiate extension " + descriptor, e);
+            return;
+        }
+        indexExtension(extension);
+        // Child extensions are resolved together with their parent
+        var children = extension.children();
+        if (children != null) {
+            for (Class<? extends Extension> child : children) {
+                resolveExtension(ExtensionDescriptor.of(child));
+            }
         }
     }
 
-    private static void registerExtension(@NonNull String modId, @NonNull Class<? extends Extension> extension) {
-        if(!FabricLoader.getInstance().isModLoaded(modId)) return;
-        registerExtension(extension);
+    private static void indexExtension(Extension extension) {
+        List<Class<?>> types = new ArrayList<>();
+        types.add(extension.getClass());
+        types.addAll(ClassUtils.getAllSuperclasses(extension.getClass()));
+        types.addAll(ClassUtils.getAllInterfaces(extension.getClass()));
+        for (Class<?> type : types) {
+            if (!Extension.class.isAssignableFrom(type)) continue;
+            extensionsByType.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(extension);
+        }
+        extensionViews.clear();
     }
 
+    /**
+     * Retrieves an unmodifiable copy of the extensions of the specified type. It is created under the same lock which is
+     * held while extensions get resolved, so that it cannot miss an extension which is indexed concurrently.
+     */
+    private static synchronized List<Extension> createExtensionView(Class<? extends Extension> extensionType) {
+        resolveExtensions(extensionType);
+        return extensionViews.computeIfAbsent(extensionType, type -> List.copyOf(extensionsByType.getOrDefault(type, List.of())));
+    }
+
+    /**
+     * Collects a value from every registered extension of the specified type. Extensions of that type are instantiated
+     * on the first call; afterwards, they are cached per extension type.
+     *
+     * @param extensionType the extension type
+     * @param function the function which retrieves the value of an extension
+     * @return an unmodifiable collection of all non-null values
+     */
     public static <E extends Extension, T> Collection<T> collectExtensions(Class<E> extensionType, Function<E, T> function) {
-        return extensions.stream().filter(extensionType::isInstance).map(extension -> function.apply((E) extension)).filter(Objects::nonNull).collect(Collectors.toSet());
+        List<Extension> extensions = extensionViews.get(extensionType);
+        if (extensions == null) {
+            extensions = createExtensionView(extensionType);
+        }
+        Set<T> values = new LinkedHashSet<>();
+        for (Extension extension : extensions) {
+            T value = function.apply((E) extension);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return Collections.unmodifiableSet(values);
     }
 
 }
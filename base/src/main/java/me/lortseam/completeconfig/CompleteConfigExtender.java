@@ -5,6 +5,9 @@ import java.util.Map;
 
 /**
  * Used for the {@code completeconfig-extender} entrypoint.
+ *
+ * <p>The entrypoint is invoked once extensions are requested for the first time, which may happen on a thread other
+ * than the main thread, for example while configs are loaded in the background.
  */
 public interface CompleteConfigExtender {
 
@@ -0,0 +1,77 @@
+package me.lortseam.completeconfig;
+
+import me.lortseam.completeconfig.util.ReflectionUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A registered extension which was not instantiated yet. Descriptors of built-in extensions only store the class name,
+ * so that the class is not loaded until extensions are requested for the first time. Its extension types are always
+ * derived from the loaded class.
+ */
+final class ExtensionDescriptor {
+
+    static ExtensionDescriptor of(Class<? extends Extension> extensionClass) {
+        return new ExtensionDescriptor(extensionClass.getName(), extensionClass);
+    }
+
+    static ExtensionDescriptor of(String className) {
+        return new ExtensionDescriptor(className, null);
+    }
+
+    private final String className;
+    private Class<? extends Extension> extensionClass;
+
+    private ExtensionDescriptor(String className, Class<? extends Extension> extensionClass) {
+        this.className = className;
+        this.extensionClass = extensionClass;
+    }
+
+    /**
+     * Loads the extension class without initializing it. The class is only initialized once the extension gets
+     * instantiated. Has to be called before any other method.
+     */
+    void loadClass() throws ClassNotFoundException {
+        if (extensionClass == null) {
+            extensionClass = Class.forName(className, false, ExtensionDescriptor.class.getClassLoader()).asSubclass(Extension.class);
+        }
+    }
+
+    /**
+     * @return the interfaces directly implemented by the extension class
+     */
+    List<Class<?>> getTypes() {
+        return Arrays.asList(extensionClass.getInterfaces());
+    }
+
+    /**
+     * Checks whether the extension is an instance of the specified extension type.
+     */
+    boolean provides(Class<? extends Extension> extensionType) {
+        return extensionType.isAssignableFrom(extensionClass);
+    }
+
+    /**
+     * Checks whether the extension may register child extensions. The types of these are only known once the extension
+     * was instantiated.
+     */
+    boolean hasChildren() {
+        try {
+            return extensionClass.getMethod("children").getDeclaringClass() != Extension.class;
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    Extension instantiate() throws InstantiationException, IllegalAccessException, NoSuchMethodException, InvocationTargetException {
+        return ReflectionUtils.instantiateClass(extensionClass);
+    }
+
+    @Override
+    public String toString() {
+        return className;
+    }
+
+}
@@ -12,7 +12,8 @@ import java.lang.annotation.Target;
 public @interface ConfigEntries {
 
     /**
-     * If {@code true}, every field of the annotated class will be resolved as config entry.
+     * If {@code true}, every field of the annotated class will be resolved as config entry. Transient fields, constants
+     * (static final fields) and fields of a {@link ConfigContainer} type are skipped.
      *
      * <p>Use {@link Exclude} to exclude a field.
      */
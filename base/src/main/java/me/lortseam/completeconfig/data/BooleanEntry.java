@@ -5,8 +5,10 @@ import me.lortseam.completeconfig.api.ConfigEntry;
 import me.lortseam.completeconfig.text.TranslationKey;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.text.Text;
 
+import java.lang.invoke.MethodHandle;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -18,9 +20,53 @@ public class BooleanEntry extends Entry<Boolean> {
     private Map<Boolean, TranslationKey> valueTranslations;
     @Environment(EnvType.CLIENT)
     @Getter
+    private boolean checkbox;
+    private final MethodHandle getter, setter;
 
     public BooleanEntry(EntryOrigin origin) {
         super(origin);
+        if (FabricLoader.getInstance().getEnvironmentType() == EnvType.CLIENT) {
+            checkbox = origin.isAnnotationPresent(ConfigEntry.Checkbox.class);
+        }
+        getter = getAccessor().getter(boolean.class);
+        setter = getAccessor().setter(boolean.class);
+    }
+
+    /**
+     * Reads the value without boxing.
+     *
+     * @return the value
+     */
+    public final boolean getBoolean() {
+        try {
+            return (boolean) getter.invokeExact();
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+    }
+
+    /**
+     * Writes the value without boxing.
+     *
+     * @param value the value
+     */
+    public final void setBoolean(boolean value) {
+        boolean oldValue = getBoolean();
+        if (value == oldValue) return;
+        if (isPublished()) {
+            writePublished(value);
+        } else {
+            try {
+                setter.invokeExact(value);
+            } catch (Throwable e) {
+                throw new RuntimeException("Failed to set entry value", e);
+            }
+            republishIfRequired();
+        }
+        notifyUpdate();
+        if (isObserved()) {
+            notifyListeners(oldValue, value);
+        }
     }
 
     @Environment(EnvType.CLIENT)
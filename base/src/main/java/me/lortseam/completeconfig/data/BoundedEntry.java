@@ -4,23 +4,44 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import me.lortseam.completeconfig.util.NumberUtils;
 
+import java.util.Comparator;
+import java.util.function.UnaryOperator;
+
 @Slf4j(topic = "CompleteConfig")
 public class BoundedEntry<T extends Number> extends Entry<T> {
 
-    @Getter
-    private final T min, max;
+    static void warnLessThanLowerBound(EntryOrigin origin) {
+        logger.warn("Tried to set value of field " + origin.getField() + " to a value less than lower bound, setting to minimum now");
+    }
 
-    public BoundedEntry(EntryOrigin origin, T min, T max) {
-        super(origin, value -> {
-            if (NumberUtils.compare(value, min) < 0) {
-                logger.warn("Tried to set value of field " + origin.getField() + " to a value less than lower bound, setting to minimum now");
+    static void warnGreaterThanUpperBound(EntryOrigin origin) {
+        logger.warn("Tried to set value of field " + origin.getField() + " to a value greater than upper bound, setting to maximum now");
+    }
+
+    static <T extends Number> UnaryOperator<T> createRevisor(EntryOrigin origin, T min, T max) {
+        // Choose the comparison strategy once instead of on every revision
+        Comparator<T> comparator = NumberUtils.comparator((Class<T>) min.getClass());
+        return value -> {
+            if (comparator.compare(value, min) < 0) {
+                warnLessThanLowerBound(origin);
                 return min;
-            } else if (NumberUtils.compare(value, max) > 0) {
-                logger.warn("Tried to set value of field " + origin.getField() + " to a value greater than upper bound, setting to maximum now");
+            } else if (comparator.compare(value, max) > 0) {
+                warnGreaterThanUpperBound(origin);
                 return max;
             }
             return value;
-        });
+        };
+    }
+
+    @Getter
+    private final T min, max;
+
+    public BoundedEntry(EntryOrigin origin, T min, T max) {
+        this(origin, min, max, createRevisor(origin, min, max));
+    }
+
+    BoundedEntry(EntryOrigin origin, T min, T max, UnaryOperator<T> revisor) {
+        super(origin, revisor);
         this.min = min;
         this.max = max;
     }
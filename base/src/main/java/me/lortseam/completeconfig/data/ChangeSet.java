@@ -0,0 +1,50 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The changes of a config caused by a single operation, for example loading the config or setting the value of an
+ * entry. An entry is contained at most once, with the value before and after the operation.
+ *
+ * @see Config#addListener(java.util.function.Consumer)
+ */
+public final class ChangeSet {
+
+    @Getter
+    private final List<Change<?>> changes;
+
+    ChangeSet(List<Change<?>> changes) {
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public boolean contains(Entry<?> entry) {
+        return get(entry).isPresent();
+    }
+
+    public <T> Optional<Change<T>> get(Entry<T> entry) {
+        for (Change<?> change : changes) {
+            if (change.entry() == entry) {
+                return Optional.of((Change<T>) change);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The change of a single entry.
+     *
+     * @param entry the entry
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    public record Change<T>(Entry<T> entry, T oldValue, T newValue) {}
+
+}
@@ -19,9 +19,13 @@ import java.util.Optional;
 public final class Cluster extends Parent implements Identifiable, DescriptionSupplier {
 
     private final Parent parent;
+    // Cached, since looking the root up through the parents would take time proportional to the nesting depth
+    private final Config root;
     private final ConfigGroup group;
     private final String comment;
     @Environment(EnvType.CLIENT)
+    private TranslationKey baseTranslation;
+    @Environment(EnvType.CLIENT)
     private TranslationKey translation;
     @Environment(EnvType.CLIENT)
     private TranslationKey descriptionTranslation;
@@ -30,6 +34,7 @@ public final class Cluster extends Parent implements Identifiable, DescriptionSu
 
     Cluster(Parent parent, ConfigGroup group) {
         this.parent = parent;
+        root = parent.getRoot();
         this.group = group;
         comment = group.getComment();
         if (FabricLoader.getInstance().getEnvironmentType() == EnvType.CLIENT) {
@@ -39,7 +44,7 @@ public final class Cluster extends Parent implements Identifiable, DescriptionSu
 
     @Override
     Config getRoot() {
-        return parent.getRoot();
+        return root;
     }
 
     @Override
@@ -89,7 +94,12 @@ public final class Cluster extends Parent implements Identifiable, DescriptionSu
     @Override
     public TranslationKey getBaseTranslation(TranslationBase translationBase, @Nullable Class<? extends ConfigContainer> clazz) {
         return switch (translationBase) {
-            case INSTANCE -> parent.getBaseTranslation().append(group.getId());
+            case INSTANCE -> {
+                if (baseTranslation == null) {
+                    baseTranslation = parent.getBaseTranslation().append(group.getId());
+                }
+                yield baseTranslation;
+            }
             case CLASS -> {
                 if (clazz == null || !clazz.isInstance(group)) {
                     clazz = group.getClass();
@@ -1,10 +1,15 @@
 package me.lortseam.completeconfig.data;
 
+import com.google.common.hash.HashCode;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.data.format.ConfigFormat;
+import me.lortseam.completeconfig.jfr.ConfigApplyEvent;
+import me.lortseam.completeconfig.jfr.ConfigFetchEvent;
+import me.lortseam.completeconfig.jfr.ConfigReadEvent;
 import me.lortseam.completeconfig.text.TranslationBase;
 import me.lortseam.completeconfig.text.TranslationKey;
 import net.fabricmc.api.EnvType;
@@ -13,14 +18,20 @@ import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.metadata.ModMetadata;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.configurate.CommentedConfigurationNode;
-import org.spongepowered.configurate.ConfigurateException;
-import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.util.Arrays;
-import java.util.Objects;
+import java.io.*;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
 
 /**
  * The base config class. Instantiate or inherit this class to create a mod config.
@@ -30,12 +41,27 @@ import java.util.concurrent.Callable;
 @ToString(onlyExplicitlyIncluded = true)
 public class Config extends Parent implements ConfigContainer {
 
+    private static final AtomicReferenceFieldUpdater<Config, List> LISTENERS = AtomicReferenceFieldUpdater.newUpdater(Config.class, List.class, "listeners");
+
     @EqualsAndHashCode.Include
     @ToString.Include
     private final ConfigOptions options;
-    private final HoconConfigurationLoader loader;
+    // Resolved on construction, so that threads reading or writing the file never need to access the Fabric loader
+    private final Path filePath;
+    private final SaveScheduler saveScheduler = new SaveScheduler(this);
+    // Files in the binary format are as fast to read as the cache, so only text formats are cached
+    private final @Nullable ConfigCache cache;
+    private volatile List<Consumer<ChangeSet>> listeners;
+    private final ThreadLocal<Batch> batch = new ThreadLocal<>();
+    private Entry<?>[] indexedEntries;
+    private Map<String, Entry<?>> entriesByPath;
+    private Map<Field, Entry<?>> entriesByField;
+    private final Object snapshotLock = new Object();
+    private volatile ConfigSnapshot snapshot;
     private Runnable resolver;
     @Environment(EnvType.CLIENT)
+    private TranslationKey baseTranslation;
+    @Environment(EnvType.CLIENT)
     private TranslationKey translation;
 
     /**
@@ -46,13 +72,26 @@ public class Config extends Parent implements ConfigContainer {
     public Config(@NonNull ConfigOptions.Builder optionsBuilder, @NonNull ConfigContainer... containers) {
         Arrays.stream(containers).forEach(Objects::requireNonNull);
         this.options = optionsBuilder.build();
-        loader = options.createDefaultLoader();
+        filePath = options.getFilePath();
+        cache = options.getFormat().isText() ? new ConfigCache(filePath, options.getCachePath()) : null;
         resolver = () -> {
             resolve(this);
             resolve(containers);
             if (isEmpty()) {
                 logger.warn(this + " is empty");
             }
+            List<Entry<?>> entries = new ArrayList<>();
+            collectEntries(entries);
+            for (int i = 0; i < entries.size(); i++) {
+                entries.get(i).setIndex(i);
+            }
+            indexedEntries = entries.toArray(new Entry<?>[0]);
+            entriesByPath = new HashMap<>();
+            indexPaths(this, "", entriesByPath);
+            entriesByField = new HashMap<>();
+            for (Entry<?> entry : entries) {
+                entriesByField.putIfAbsent(entry.origin.getField(), entry);
+            }
         };
         ConfigRegistry.registerConfig(this);
     }
@@ -85,71 +124,301 @@ public class Config extends Parent implements ConfigContainer {
         return FabricLoader.getInstance().getModContainer(options.getModId()).get().getMetadata();
     }
 
+    String getModId() {
+        return options.getModId();
+    }
+
     public final String[] getBranch() {
         return options.getBranch();
     }
 
-    private void deserialize(HoconConfigurationLoader loader) {
+    private static void indexPaths(Parent parent, String prefix, Map<String, Entry<?>> paths) {
+        for (Entry<?> entry : parent.getEntries()) {
+            paths.put(prefix + entry.getId(), entry);
+        }
+        for (Cluster cluster : parent.getClusters()) {
+            indexPaths(cluster, prefix + cluster.getId() + ".", paths);
+        }
+    }
+
+    void resolve() {
         if (resolver != null) {
             resolver.run();
             resolver = null;
         }
-        if (isEmpty()) return;
-        try {
-            CommentedConfigurationNode root = loader.load();
-            if (!root.isNull()) {
-                apply(root);
+    }
+
+    /**
+     * Resolves this config if required and reads the node tree from the config file. The file is read only once, both
+     * for parsing and for remembering its content hash. If the file is in a text format and did not change since it was
+     * last read or written, the node tree is restored from the binary cache instead of parsing the file.
+     */
+    @Nullable CommentedConfigurationNode read() {
+        resolve();
+        if (isEmpty()) return null;
+        byte[] content = readFile();
+        if (content == null) return null;
+        HashCode hash = SaveScheduler.hash(content);
+        saveScheduler.setFileHash(hash);
+        return parseFile(content, hash);
+    }
+
+    private @Nullable CommentedConfigurationNode parseFile(byte[] content, HashCode hash) {
+        ConfigReadEvent event = new ConfigReadEvent();
+        event.begin();
+        CommentedConfigurationNode root = cache != null ? cache.read(hash, options.getNodeOptions()) : null;
+        if (root == null) {
+            root = parse(content);
+            if (root != null && cache != null) {
+                cache.write(root, hash);
             }
-        } catch (ConfigurateException e) {
+        }
+        event.complete(this, getEntryCount(), content.length);
+        return root;
+    }
+
+    private byte @Nullable [] readFile() {
+        try {
+            return Files.readAllBytes(filePath);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
             logger.error("Failed to load config", e);
+            return null;
         }
     }
 
     /**
-     * Deserializes values from a custom source and applies them to this config.
+     * Parses content in the format of this config.
+     *
+     * @return the node tree, or {@code null} if there is nothing to apply
+     */
+    private @Nullable CommentedConfigurationNode parse(byte[] content) {
+        try {
+            CommentedConfigurationNode root = options.getFormat().read(content, options.getNodeOptions());
+            return root.isNull() ? null : root;
+        } catch (IOException e) {
+            logger.error("Failed to load config", e);
+            return null;
+        }
+    }
+
+    /**
+     * Reloads the config file after it was changed externally. Only entries whose values differ from the file get
+     * updated. Changes caused by saving this config are ignored.
+     */
+    void reload() {
+        byte[] content = readFile();
+        if (content == null) return;
+        HashCode hash = SaveScheduler.hash(content);
+        if (!saveScheduler.setFileHash(hash)) return;
+        CommentedConfigurationNode root = parseFile(content, hash);
+        if (root != null) {
+            apply(root);
+        }
+    }
+
+    private void checkTextFormat() {
+        if (!options.getFormat().isText()) {
+            throw new UnsupportedOperationException(this + " does not use a text format");
+        }
+    }
+
+    /**
+     * Deserializes values from a custom source and applies them to this config. The source has to be in the
+     * {@linkplain ConfigOptions.Builder#format(ConfigFormat) format} of this config, which has to be a text format.
      *
      * @param source the source to deserialize from
      */
     public final void deserialize(Callable<BufferedReader> source) {
-        deserialize(options.createLoader(builder -> builder.source(source)));
+        checkTextFormat();
+        resolve();
+        if (isEmpty()) return;
+        StringWriter content = new StringWriter();
+        try (BufferedReader reader = source.call()) {
+            reader.transferTo(content);
+        } catch (Exception e) {
+            logger.error("Failed to load config", e);
+            return;
+        }
+        CommentedConfigurationNode root = parse(content.toString().getBytes(StandardCharsets.UTF_8));
+        if (root != null) {
+            apply(root);
+        }
+    }
+
+    /**
+     * Retrieves the number of entries of this config, including the entries of all clusters.
+     *
+     * @return the number of entries, or 0 if this config was not loaded yet
+     */
+    public final int getEntryCount() {
+        return indexedEntries != null ? indexedEntries.length : 0;
+    }
+
+    /**
+     * Finds an entry by its path, which consists of the IDs of its clusters and the entry itself, separated by dots,
+     * for example {@code "group.subgroup.entry"}.
+     *
+     * @param path the entry path
+     * @return the entry, or an empty optional if no entry exists at that path
+     */
+    public final Optional<Entry<?>> find(@NonNull String path) {
+        checkResolved();
+        return Optional.ofNullable(entriesByPath.get(path));
+    }
+
+    /**
+     * Finds the entry of a field. If the field belongs to multiple objects of this config, the entry which was resolved
+     * first is returned.
+     *
+     * @param field the entry field
+     * @return the entry, or an empty optional if the field is not an entry of this config
+     */
+    public final Optional<Entry<?>> entryOf(@NonNull Field field) {
+        checkResolved();
+        return Optional.ofNullable(entriesByField.get(field));
+    }
+
+    private void checkResolved() {
+        if (resolver != null) {
+            throw new IllegalStateException("Cannot access entries of config before it was loaded");
+        }
     }
 
     /**
      * Loads the config from the config file.
      */
     public final void load() {
-        deserialize(loader);
-        save();
+        CommentedConfigurationNode root = read();
+        if (root != null) {
+            apply(root);
+        }
+        completeLoad();
     }
 
-    private void serialize(HoconConfigurationLoader loader) {
+    /**
+     * Completes loading by writing the config and watching the config file.
+     */
+    void completeLoad() {
+        CommentedConfigurationNode root = fetchRoot();
+        if (root != null) {
+            write(root);
+        }
+        if (options.getHotReloadExecutor() != null && !isEmpty()) {
+            ConfigWatcher.watch(this);
+        }
+    }
+
+    /**
+     * Stops watching the config file for external changes. Only required if
+     * {@linkplain ConfigOptions.Builder#hotReload(Executor) hot reload} is enabled and the config is discarded while
+     * the game keeps running. Loading the config again resumes watching.
+     */
+    public final void stopHotReload() {
+        if (options.getHotReloadExecutor() != null) {
+            ConfigWatcher.unwatch(this);
+        }
+    }
+
+    @Nullable CommentedConfigurationNode fetchRoot() {
         if (resolver != null) {
             throw new IllegalStateException("Cannot serialize config before it was loaded");
         }
-        if (isEmpty()) return;
-        CommentedConfigurationNode root = loader.createNode();
-        fetch(root);
-        try {
-            loader.save(root);
-        } catch (ConfigurateException e) {
-            logger.error("Failed to serialize config", e);
+        if (isEmpty()) return null;
+        if (getRevisionMode() == RevisionMode.WRITE) {
+            revalidate();
         }
+        ConfigFetchEvent event = new ConfigFetchEvent();
+        event.begin();
+        CommentedConfigurationNode root = CommentedConfigurationNode.root(options.getNodeOptions());
+        fetch(root);
+        event.complete(this, getEntryCount(), 0);
+        return root;
     }
 
     /**
-     * Serializes this config's values to a custom sink.
+     * Serializes this config's values to a custom sink. The values are written in the
+     * {@linkplain ConfigOptions.Builder#format(ConfigFormat) format} of this config, which has to be a text format.
      *
      * @param sink the sink to serialize to
      */
     public final void serialize(Callable<BufferedWriter> sink) {
-        serialize(options.createLoader(builder -> builder.sink(sink)));
+        checkTextFormat();
+        CommentedConfigurationNode root = fetchRoot();
+        if (root == null) return;
+        try (BufferedWriter writer = sink.call()) {
+            writer.write(new String(render(root), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            logger.error("Failed to serialize config", e);
+        }
+    }
+
+    byte[] render(CommentedConfigurationNode root) throws IOException {
+        return options.getFormat().write(root);
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    void writeCache(CommentedConfigurationNode root, HashCode hash) {
+        if (cache == null) return;
+        cache.write(root, hash);
+    }
+
+    Duration getSaveDelay() {
+        return options.getSaveDelay();
+    }
+
+    Executor getHotReloadExecutor() {
+        return options.getHotReloadExecutor();
     }
 
     /**
-     * Saves the config to the config file.
+     * Saves the config to the config file. A pending asynchronous save is superseded by this save. The file is only
+     * written if its content would change.
      */
     public final void save() {
-        serialize(loader);
+        CommentedConfigurationNode root = fetchRoot();
+        if (root != null) {
+            write(root);
+        }
+    }
+
+    private void write(CommentedConfigurationNode root) {
+        try {
+            saveScheduler.saveNow(root);
+        } catch (Exception e) {
+            logger.error("Failed to serialize config", e);
+        }
+    }
+
+    /**
+     * Saves the config to the config file in the background. The values are collected on the calling thread, while
+     * writing the file happens asynchronously. All asynchronous saves requested within the
+     * {@linkplain ConfigOptions.Builder#saveDelay(Duration) save delay} are coalesced into a single write. Pending saves
+     * are flushed when the game shuts down.
+     *
+     * @return a future which completes once the values were written
+     */
+    public final CompletableFuture<Void> saveAsync() {
+        CommentedConfigurationNode root = fetchRoot();
+        if (root == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return saveScheduler.schedule(root);
+    }
+
+    /**
+     * Revises the values of all entries. Only required if the config uses {@link RevisionMode#WRITE} and fields are
+     * written directly instead of through their entries.
+     */
+    public final void revalidate() {
+        if (resolver != null) {
+            throw new IllegalStateException("Cannot revalidate config before it was loaded");
+        }
+        batch(super::revalidate, false);
     }
 
     /**
@@ -157,6 +426,221 @@ public class Config extends Parent implements ConfigContainer {
      */
     protected void onConfigEntryUpdate() {}
 
+    /**
+     * Adds a listener which receives the changes of this config. Changes caused by a single operation, such as loading
+     * the config, are delivered together in one {@link ChangeSet}.
+     *
+     * @param listener the listener
+     */
+    public final void addListener(@NonNull Consumer<ChangeSet> listener) {
+        LISTENERS.updateAndGet(this, listeners -> Listeners.add(listeners, listener));
+    }
+
+    public final void removeListener(@NonNull Consumer<ChangeSet> listener) {
+        LISTENERS.updateAndGet(this, listeners -> Listeners.remove(listeners, listener));
+    }
+
+    /**
+     * Checks whether changes of entries need to be recorded, either for listeners, for publishing snapshots or for
+     * rolling back a transaction.
+     */
+    boolean isObserving() {
+        if (listeners != null || snapshot != null) return true;
+        Batch batch = this.batch.get();
+        return batch != null && batch.transaction;
+    }
+
+    /**
+     * Records the change of an entry. If an operation is running on the calling thread, the change is delivered when
+     * the operation completes.
+     *
+     * @return whether the change was deferred
+     */
+    <T> boolean recordChange(Entry<T> entry, T oldValue, T newValue) {
+        Batch batch = this.batch.get();
+        if (batch == null) {
+            dispatchChanges(List.of(new ChangeSet.Change<>(entry, oldValue, newValue)));
+            return false;
+        }
+        // Merge multiple changes of the same entry, keeping the value from before the operation
+        batch.changes.merge(entry, new ChangeSet.Change<>(entry, oldValue, newValue), (previous, current) -> {
+            return new ChangeSet.Change<>(entry, ((ChangeSet.Change<T>) previous).oldValue(), newValue);
+        });
+        return true;
+    }
+
+    /**
+     * Defers the update callbacks of a container if an operation is running on the calling thread.
+     *
+     * @return whether the callbacks were deferred
+     */
+    boolean deferUpdate(ConfigContainer container) {
+        Batch batch = this.batch.get();
+        if (batch == null) return false;
+        batch.updatedContainers.add(container);
+        return true;
+    }
+
+    /**
+     * Runs the specified operation as a transaction. Values set through entries during the operation are revised and
+     * written immediately, but update callbacks are deferred until the transaction commits. On commit,
+     * {@link ConfigContainer#onContainerEntryUpdate()} is called once per affected container,
+     * {@link #onConfigEntryUpdate()} once for this config, listeners receive a single {@link ChangeSet} and the config
+     * is saved once. If the operation throws an exception, all entries changed during the transaction are restored to
+     * their previous values without any callbacks.
+     *
+     * <p>A transaction started during another operation on the same thread, for example while the config is loading,
+     * joins that operation. Values set from other threads are not part of the transaction: they are delivered
+     * immediately and are not restored if the transaction fails.
+     *
+     * @param operation the operation
+     */
+    public final void transaction(@NonNull Runnable operation) {
+        batch(operation, true);
+    }
+
+    /**
+     * Runs an operation whose update callbacks are deferred and whose changes get delivered as a single
+     * {@link ChangeSet}.
+     */
+    private void batch(Runnable operation, boolean transaction) {
+        Batch batch = this.batch.get();
+        if (batch == null) {
+            batch = new Batch(transaction);
+            this.batch.set(batch);
+        }
+        batch.depth++;
+        boolean completed = false;
+        try {
+            operation.run();
+            completed = true;
+        } finally {
+            if (--batch.depth == 0) {
+                this.batch.remove();
+                if (completed || !batch.transaction) {
+                    commit(batch);
+                } else {
+                    rollback(batch);
+                }
+            }
+        }
+    }
+
+    private void commit(Batch batch) {
+        if (batch.updatedContainers.isEmpty()) return;
+        for (ConfigContainer container : batch.updatedContainers) {
+            container.onContainerEntryUpdate();
+        }
+        onConfigEntryUpdate();
+        List<ChangeSet.Change<?>> changes = new ArrayList<>(batch.changes.values());
+        // Values may have been set back to their original value during the operation
+        changes.removeIf(change -> Objects.equals(change.oldValue(), change.newValue()));
+        publishSnapshot(changes);
+        for (ChangeSet.Change<?> change : changes) {
+            notifyEntryListeners(change);
+        }
+        if (!changes.isEmpty()) {
+            dispatchChanges(changes);
+        }
+        if (batch.transaction) {
+            save();
+        }
+    }
+
+    private static <T> void notifyEntryListeners(ChangeSet.Change<T> change) {
+        change.entry().notifyEntryListeners(change.oldValue(), change.newValue());
+    }
+
+    private void rollback(Batch batch) {
+        for (ChangeSet.Change<?> change : batch.changes.values()) {
+            ((Entry<Object>) change.entry()).restore(change.oldValue());
+        }
+    }
+
+    /**
+     * Retrieves the current snapshot of this config's values. Snapshots are immutable and can be read from any thread
+     * without synchronization.
+     *
+     * <p>Snapshots are created lazily: the first call takes a snapshot of all values, afterwards a new snapshot is
+     * published after every change made through an entry. Concurrent changes of the same entry are published in the
+     * order they were written. Changes made during an operation, such as a
+     * {@linkplain #transaction(Runnable) transaction}, are published together once the operation completes. Values
+     * written directly to fields are not reflected.
+     *
+     * @return the current snapshot
+     */
+    public final ConfigSnapshot getSnapshot() {
+        ConfigSnapshot snapshot = this.snapshot;
+        if (snapshot != null) return snapshot;
+        synchronized (snapshotLock) {
+            if (this.snapshot == null) {
+                if (resolver != null) {
+                    throw new IllegalStateException("Cannot take snapshot of config before it was loaded");
+                }
+                Object[] values = new Object[indexedEntries.length];
+                for (int i = 0; i < indexedEntries.length; i++) {
+                    values[i] = indexedEntries[i].getValue();
+                }
+                this.snapshot = new ConfigSnapshot(this, values);
+            }
+            return this.snapshot;
+        }
+    }
+
+    /**
+     * Checks whether values written on the calling thread need to be published to the snapshot immediately.
+     */
+    boolean isPublishing() {
+        return snapshot != null && batch.get() == null;
+    }
+
+    /**
+     * Writes the value of an entry and publishes it. Both happen under the snapshot lock, so that concurrent writers of
+     * the same entry publish their values in the order they wrote them.
+     */
+    <T> void writePublished(Entry<T> entry, T value) {
+        synchronized (snapshotLock) {
+            entry.set(value);
+            snapshot = snapshot.with(entry, value);
+        }
+    }
+
+    /**
+     * Publishes the current value of an entry. Required if the value was written while the first snapshot was taken,
+     * since that snapshot might not contain it.
+     */
+    void publishCurrentValue(Entry<?> entry) {
+        synchronized (snapshotLock) {
+            snapshot = snapshot.with(entry, entry.getAccessor().get());
+        }
+    }
+
+    private void publishSnapshot(List<ChangeSet.Change<?>> changes) {
+        if (changes.isEmpty()) return;
+        synchronized (snapshotLock) {
+            if (snapshot != null) {
+                snapshot = snapshot.with(changes);
+            }
+        }
+    }
+
+    private void dispatchChanges(List<ChangeSet.Change<?>> changes) {
+        List<Consumer<ChangeSet>> listeners = this.listeners;
+        if (listeners == null) return;
+        ChangeSet changeSet = new ChangeSet(changes);
+        for (Consumer<ChangeSet> listener : listeners) {
+            listener.accept(changeSet);
+        }
+    }
+
+    @Override
+    public final void apply(CommentedConfigurationNode node) {
+        ConfigApplyEvent event = new ConfigApplyEvent();
+        event.begin();
+        batch(() -> super.apply(node), false);
+        event.complete(this, getEntryCount(), 0);
+    }
+
     @Override
     Config getRoot() {
         return this;
@@ -166,9 +650,16 @@ public class Config extends Parent implements ConfigContainer {
         return options.getRegistry();
     }
 
+    RevisionMode getRevisionMode() {
+        return options.getRevisionMode();
+    }
+
     @Override
     public TranslationKey getBaseTranslation(TranslationBase translationBase, @Nullable Class<? extends ConfigContainer> clazz) {
-        return new TranslationKey(this);
+        if (baseTranslation == null) {
+            baseTranslation = new TranslationKey(this);
+        }
+        return baseTranslation;
     }
 
     @Override
@@ -179,4 +670,17 @@ public class Config extends Parent implements ConfigContainer {
         return translation;
     }
 
+    private static final class Batch {
+
+        private final boolean transaction;
+        private int depth;
+        private final Map<Entry<?>, ChangeSet.Change<?>> changes = new LinkedHashMap<>();
+        private final Set<ConfigContainer> updatedContainers = new LinkedHashSet<>();
+
+        private Batch(boolean transaction) {
+            this.transaction = transaction;
+        }
+
+    }
+
 }
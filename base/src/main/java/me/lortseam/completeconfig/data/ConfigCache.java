@@ -0,0 +1,84 @@
+package me.lortseam.completeconfig.data;
+
+import com.google.common.hash.HashCode;
+import lombok.extern.slf4j.Slf4j;
+import me.lortseam.completeconfig.data.format.ConfigFormat;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+
+/**
+ * Caches the node tree of a config file in the {@linkplain ConfigFormat#BINARY binary format}, so that a file which did
+ * not change since it was last read or written does not need to be parsed again. The cache is keyed by size,
+ * modification time and content hash of the file; if any of them differs, the cache is ignored.
+ */
+@Slf4j(topic = "CompleteConfig")
+final class ConfigCache {
+
+    private static final int MAGIC = 0x43434643;
+    private static final byte VERSION = 1;
+
+    private final Path filePath;
+    private final Path cachePath;
+
+    ConfigCache(Path filePath, Path cachePath) {
+        this.filePath = filePath;
+        this.cachePath = cachePath;
+    }
+
+    /**
+     * Reads the cached node tree if the config file is unchanged.
+     *
+     * @param contentHash the hash of the current file content
+     * @return the node tree, or {@code null} if the cache is missing or outdated
+     */
+    @Nullable CommentedConfigurationNode read(HashCode contentHash, ConfigurationOptions options) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cachePath)))) {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) return null;
+            if (in.readLong() != attributes.size() || in.readLong() != attributes.lastModifiedTime().toMillis()) return null;
+            byte[] hash = new byte[in.readUnsignedByte()];
+            in.readFully(hash);
+            if (!Arrays.equals(hash, contentHash.asBytes())) return null;
+            return ConfigFormat.BINARY.read(in.readAllBytes(), options);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Failed to read config cache " + cachePath, e);
+            return null;
+        }
+    }
+
+    /**
+     * Caches the node tree of the config file as it currently exists.
+     *
+     * @param contentHash the hash of the current file content
+     */
+    void write(ConfigurationNode node, HashCode contentHash) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(attributes.size());
+            out.writeLong(attributes.lastModifiedTime().toMillis());
+            byte[] hash = contentHash.asBytes();
+            out.writeByte(hash.length);
+            out.write(hash);
+            out.write(ConfigFormat.BINARY.write(node));
+            SaveScheduler.writeAtomically(cachePath, bytes.toByteArray());
+        } catch (IOException e) {
+            logger.warn("Failed to write config cache " + cachePath, e);
+        }
+    }
+
+}
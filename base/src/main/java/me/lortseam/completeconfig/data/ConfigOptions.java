@@ -3,11 +3,12 @@ package me.lortseam.completeconfig.data;
 import lombok.*;
 import me.lortseam.completeconfig.CompleteConfig;
 import me.lortseam.completeconfig.data.extension.DataExtension;
+import me.lortseam.completeconfig.data.format.ConfigFormat;
 import me.lortseam.completeconfig.data.transform.Transformation;
 import net.fabricmc.loader.api.FabricLoader;
 import org.apache.commons.lang3.ArrayUtils;
 import org.jetbrains.annotations.NotNull;
-import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+import org.spongepowered.configurate.ConfigurationOptions;
 import org.spongepowered.configurate.objectmapping.ObjectMapper;
 import org.spongepowered.configurate.serialize.CoercionFailedException;
 import org.spongepowered.configurate.serialize.TypeSerializer;
@@ -15,11 +16,12 @@ import org.spongepowered.configurate.serialize.TypeSerializerCollection;
 
 import java.awt.*;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.concurrent.Executor;
 
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(onlyExplicitlyIncluded = true)
@@ -35,6 +37,8 @@ public final class ConfigOptions {
             }))
             .build();
 
+    private static final String CACHE_DIRECTORY = ".completeconfig-cache";
+
     /**
      * Creates a {@link ConfigOptions.Builder} for the specified mod.
      *
@@ -58,50 +62,84 @@ public final class ConfigOptions {
     private final TypeSerializerCollection typeSerializers;
     private final String fileHeader;
     @Getter(AccessLevel.PACKAGE)
+    private final ConfigFormat format;
+    @Getter(AccessLevel.PACKAGE)
+    private final RevisionMode revisionMode;
+    @Getter(AccessLevel.PACKAGE)
+    private final Duration saveDelay;
+    @Getter(AccessLevel.PACKAGE)
+    private final Executor hotReloadExecutor;
+    @Getter(AccessLevel.PACKAGE)
     private final ConfigRegistry registry = new ConfigRegistry();
+    private volatile NodeOptions nodeOptions;
 
-    private ConfigOptions(String modId, String[] branch, TypeSerializerCollection typeSerializers, List<Transformation> transformations, String fileHeader) {
+    private ConfigOptions(String modId, String[] branch, TypeSerializerCollection typeSerializers, List<Transformation> transformations, String fileHeader, ConfigFormat format, RevisionMode revisionMode, Duration saveDelay, Executor hotReloadExecutor) {
         this.modId = modId;
         this.branch = branch;
         this.typeSerializers = typeSerializers;
         registry.registerTransformations(transformations);
         this.fileHeader = fileHeader;
+        this.format = format;
+        this.revisionMode = revisionMode;
+        this.saveDelay = saveDelay;
+        this.hotReloadExecutor = hotReloadExecutor;
     }
 
-    HoconConfigurationLoader createDefaultLoader() {
-        return createLoader(builder -> {
-            Path path = FabricLoader.getInstance().getConfigDir();
-            String[] subPath = ArrayUtils.addFirst(branch, modId);
-            subPath[subPath.length - 1] = subPath[subPath.length - 1] + ".conf";
-            for (String child : subPath) {
-                path = path.resolve(child);
-            }
-            builder.path(path);
-        });
+    private Path resolvePath(Path directory, String extension) {
+        String[] subPath = ArrayUtils.addFirst(branch, modId);
+        subPath[subPath.length - 1] = subPath[subPath.length - 1] + extension;
+        for (String child : subPath) {
+            directory = directory.resolve(child);
+        }
+        return directory;
     }
 
-    HoconConfigurationLoader createLoader(Consumer<HoconConfigurationLoader.Builder> builderConsumer) {
-        HoconConfigurationLoader.Builder builder = HoconConfigurationLoader.builder()
-                .defaultOptions(options -> options
-                        .serializers(typeSerializersBuilder -> {
-                            // Register user created serializers first so they can override default ones
-                            typeSerializersBuilder.registerAll(typeSerializers);
-                            typeSerializersBuilder.registerAll(COMMON_TYPE_SERIALIZERS);
-                            for (TypeSerializerCollection typeSerializers : CompleteConfig.collectExtensions(DataExtension.class, DataExtension::getTypeSerializers)) {
-                                typeSerializersBuilder.registerAll(typeSerializers);
-                            }
-                        })
-                        .header(fileHeader)
-                );
-        builderConsumer.accept(builder);
-        return builder.build();
+    Path getFilePath() {
+        return resolvePath(FabricLoader.getInstance().getConfigDir(), format.getFileExtension());
+    }
+
+    Path getCachePath() {
+        return resolvePath(FabricLoader.getInstance().getConfigDir().resolve(CACHE_DIRECTORY), ".bin");
+    }
+
+    /**
+     * Retrieves the options of node trees, which are shared by all formats. The options, including the merged type
+     * serializers, are built once and reused until {@link ConfigRegistry#invalidateSerializers()} is called.
+     */
+    ConfigurationOptions getNodeOptions() {
+        int generation = ConfigRegistry.getSerializerGeneration();
+        NodeOptions nodeOptions = this.nodeOptions;
+        if (nodeOptions == null || nodeOptions.generation() != generation) {
+            nodeOptions = new NodeOptions(generation, createNodeOptions());
+            this.nodeOptions = nodeOptions;
+        }
+        return nodeOptions.options();
     }
 
+    private ConfigurationOptions createNodeOptions() {
+        return format.adaptOptions(ConfigurationOptions.defaults()
+                .serializers(typeSerializersBuilder -> {
+                    // Register user created serializers first so they can override default ones
+                    typeSerializersBuilder.registerAll(typeSerializers);
+                    typeSerializersBuilder.registerAll(COMMON_TYPE_SERIALIZERS);
+                    for (TypeSerializerCollection typeSerializers : CompleteConfig.collectExtensions(DataExtension.class, DataExtension::getTypeSerializers)) {
+                        typeSerializersBuilder.registerAll(typeSerializers);
+                    }
+                })
+                .header(fileHeader));
+    }
+
+    private record NodeOptions(int generation, ConfigurationOptions options) {}
+
     public static final class Builder {
 
         private final String modId;
         private String[] branch = new String[0];
         private String fileHeader;
+        private ConfigFormat format = ConfigFormat.HOCON;
+        private RevisionMode revisionMode = RevisionMode.READ;
+        private Duration saveDelay = Duration.ofMillis(500);
+        private Executor hotReloadExecutor;
         private final TypeSerializerCollection.Builder typeSerializerCollectionBuilder = TypeSerializerCollection.builder();
         private final List<Transformation> transformations = new ArrayList<>();
 
@@ -146,8 +184,70 @@ public final class ConfigOptions {
             return this;
         }
 
+        /**
+         * Sets the storage format of the config file. Defaults to {@link ConfigFormat#HOCON}.
+         *
+         * @param format the format
+         * @return this builder
+         */
+        public Builder format(@NonNull ConfigFormat format) {
+            this.format = format;
+            return this;
+        }
+
+        /**
+         * Sets the revision mode, which determines when the values of entries get revised. Defaults to
+         * {@link RevisionMode#READ}.
+         *
+         * @param revisionMode the revision mode
+         * @return this builder
+         */
+        public Builder revisionMode(@NonNull RevisionMode revisionMode) {
+            this.revisionMode = revisionMode;
+            return this;
+        }
+
+        /**
+         * Sets the delay of asynchronous saves. All {@link Config#saveAsync()} calls within this delay after the first
+         * one are coalesced into a single write. Defaults to 500 milliseconds.
+         *
+         * @param saveDelay the save delay
+         * @return this builder
+         */
+        public Builder saveDelay(@NonNull Duration saveDelay) {
+            if (saveDelay.isNegative()) {
+                throw new IllegalArgumentException("Save delay must not be negative");
+            }
+            this.saveDelay = saveDelay;
+            return this;
+        }
+
+        /**
+         * Enables hot reload. Once the config is loaded, its file gets watched and external changes are applied to the
+         * config, updating only the entries whose values differ. Changes are applied using the specified executor, for
+         * example the executor of the server or client thread.
+         *
+         * @param executor the executor to apply changes with
+         * @return this builder
+         */
+        public Builder hotReload(@NonNull Executor executor) {
+            hotReloadExecutor = executor;
+            return this;
+        }
+
+        /**
+         * Enables hot reload. External changes are applied on the background thread watching the file.
+         *
+         * @return this builder
+         *
+         * @see #hotReload(Executor)
+         */
+        public Builder hotReload() {
+            return hotReload(Runnable::run);
+        }
+
         ConfigOptions build() {
-            return new ConfigOptions(modId, branch.clone(), typeSerializerCollectionBuilder.build(), transformations, fileHeader);
+            return new ConfigOptions(modId, branch.clone(), typeSerializerCollectionBuilder.build(), transformations, fileHeader, format, revisionMode, saveDelay, hotReloadExecutor);
         }
 
     }
@@ -1,36 +1,41 @@
 package me.lortseam.completeconfig.data;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.NonNull;
 import me.lortseam.completeconfig.CompleteConfig;
 import me.lortseam.completeconfig.data.extension.DataExtension;
 import me.lortseam.completeconfig.data.transform.Transformation;
+import me.lortseam.completeconfig.data.transform.TransformationIndex;
+import org.spongepowered.configurate.CommentedConfigurationNode;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class ConfigRegistry {
 
-    private static final Set<Config> configs = new HashSet<>();
-    private static final Map<String, Config> mainConfigs = new HashMap<>();
-    private static final Set<EntryOrigin> origins = new HashSet<>();
+    private static final Set<Config> configs = ConcurrentHashMap.newKeySet();
+    // An empty value marks a mod with multiple configs but no explicitly set main config
+    private static final Map<String, Optional<Config>> mainConfigs = new ConcurrentHashMap<>();
+    private static final Set<EntryOrigin> origins = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger serializerGeneration = new AtomicInteger();
 
     static void registerConfig(Config config) {
         if (!configs.add(config)) {
             throw new RuntimeException(config + " already exists");
         }
-        String modId = config.getMod().getId();
-        if (!mainConfigs.containsKey(modId)) {
-            mainConfigs.put(modId, config);
-        } else {
-            mainConfigs.put(modId, null);
-        }
+        mainConfigs.merge(config.getModId(), Optional.of(config), (previous, current) -> Optional.empty());
     }
 
     static void registerEntryOrigin(EntryOrigin origin) {
-        if (origins.contains(origin)) {
+        if (!origins.add(origin)) {
             throw new RuntimeException(origin.getField() + " was already resolved");
         }
-        origins.add(origin);
     }
 
     /**
@@ -42,14 +47,104 @@ public final class ConfigRegistry {
      * @param config the main config
      */
     public static void setMainConfig(@NonNull Config config) {
-        mainConfigs.put(config.getMod().getId(), config);
+        mainConfigs.put(config.getModId(), Optional.of(config));
     }
 
+    /**
+     * Retrieves the main configs by mod ID. Mods with multiple configs but no explicitly set main config are not
+     * contained.
+     *
+     * @return an unmodifiable copy of the main configs
+     */
     public static Map<String, Config> getMainConfigs() {
+        Map<String, Config> mainConfigs = new HashMap<>();
+        ConfigRegistry.mainConfigs.forEach((modId, config) -> config.ifPresent(value -> mainConfigs.put(modId, value)));
         return Collections.unmodifiableMap(mainConfigs);
     }
 
+    /**
+     * Discards the type serializers which were merged for each config, so that they get merged again on next use. Only
+     * required if the type serializers provided by extensions change after configs were created.
+     */
+    public static void invalidateSerializers() {
+        serializerGeneration.incrementAndGet();
+    }
+
+    static int getSerializerGeneration() {
+        return serializerGeneration.get();
+    }
+
+    /**
+     * Loads the specified configs, reading and parsing their files concurrently on a shared, bounded pool of background
+     * threads. Everything else happens on the calling thread in the specified order: the configs are resolved before
+     * any file is read, since resolving may already revise values, and the values are applied and the configs written
+     * once the file of the respective config was read. Entry update callbacks therefore run on the calling thread in
+     * the same order as with sequential {@link Config#load()} calls.
+     *
+     * <p>The returned futures are already completed when this method returns.
+     *
+     * @param configs the configs to load
+     * @return a future for every config in the specified order, which completes with the config once it was loaded, or
+     * exceptionally if loading failed
+     */
+    public static List<CompletableFuture<Config>> loadAll(@NonNull Collection<? extends Config> configs) {
+        // All configs are resolved before any background work starts, so that no callbacks run concurrently
+        List<CompletableFuture<Void>> resolves = new ArrayList<>(configs.size());
+        for (Config config : configs) {
+            try {
+                config.resolve();
+                resolves.add(CompletableFuture.completedFuture(null));
+            } catch (RuntimeException e) {
+                resolves.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        List<CompletableFuture<CommentedConfigurationNode>> reads = new ArrayList<>(configs.size());
+        Iterator<CompletableFuture<Void>> resolveIterator = resolves.iterator();
+        for (Config config : configs) {
+            reads.add(resolveIterator.next().thenApplyAsync(ignored -> config.read(), LoadExecutor.INSTANCE));
+        }
+        List<CompletableFuture<Config>> futures = new ArrayList<>(configs.size());
+        Iterator<CompletableFuture<CommentedConfigurationNode>> readIterator = reads.iterator();
+        for (Config config : configs) {
+            try {
+                CommentedConfigurationNode root = readIterator.next().join();
+                if (root != null) {
+                    config.apply(root);
+                }
+                config.completeLoad();
+                futures.add(CompletableFuture.completedFuture(config));
+            } catch (CompletionException e) {
+                futures.add(CompletableFuture.failedFuture(e.getCause()));
+            } catch (RuntimeException e) {
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * Loads the specified configs, reading their files concurrently.
+     *
+     * @param configs the configs to load
+     * @return a future for every config in the specified order
+     *
+     * @see #loadAll(Collection)
+     */
+    public static List<CompletableFuture<Config>> loadAll(@NonNull Config... configs) {
+        return loadAll(Arrays.asList(configs));
+    }
+
+    private static final class LoadExecutor {
+
+        private static final Executor INSTANCE = Executors.newFixedThreadPool(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() - 1, 4)), new ThreadFactoryBuilder()
+                .setNameFormat("CompleteConfig Loader %d")
+                .setDaemon(true)
+                .build());
+
+    }
+
     private final List<Transformation> transformations = Lists.newArrayList(Transformation.DEFAULTS);
+    private volatile TransformationIndex transformationIndex;
 
     ConfigRegistry() {
         for (Collection<Transformation> transformations : CompleteConfig.collectExtensions(DataExtension.class, DataExtension::getTransformations)) {
@@ -57,12 +152,26 @@ public final class ConfigRegistry {
         }
     }
 
-    void registerTransformations(Collection<Transformation> transformations) {
+    synchronized void registerTransformations(Collection<Transformation> transformations) {
         this.transformations.addAll(transformations);
+        transformationIndex = null;
     }
 
-    List<Transformation> getTransformations() {
-        return new ArrayList<>(transformations);
+    Optional<Transformation> findTransformation(EntryOrigin origin) {
+        TransformationIndex index = transformationIndex;
+        if (index == null) {
+            index = buildTransformationIndex();
+        }
+        return index.find(origin);
+    }
+
+    private synchronized TransformationIndex buildTransformationIndex() {
+        if (transformationIndex == null) {
+            List<Transformation> indexedTransformations = new ArrayList<>(transformations);
+            indexedTransformations.add(Entry.DEFAULT_TRANSFORMATION);
+            transformationIndex = new TransformationIndex(indexedTransformations);
+        }
+        return transformationIndex;
     }
 
 }
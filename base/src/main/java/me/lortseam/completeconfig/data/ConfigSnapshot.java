@@ -0,0 +1,62 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * An immutable view of the values of a config at a single point in time. Snapshots are never modified; instead, a new
+ * snapshot gets published after every committed change. A snapshot can therefore be read from any thread without
+ * locking and always shows a consistent state of the whole config.
+ *
+ * <p>Values are stored as they were returned by their entries. Mutable values, such as lists, are not copied.
+ *
+ * @see Config#getSnapshot()
+ */
+public final class ConfigSnapshot {
+
+    @Getter
+    private final Config config;
+    private final Object[] values;
+
+    ConfigSnapshot(Config config, Object[] values) {
+        this.config = config;
+        this.values = values;
+    }
+
+    /**
+     * Retrieves the value of the specified entry at the time this snapshot was taken.
+     *
+     * @param entry an entry of the config of this snapshot
+     * @return the value of the entry
+     */
+    public <T> T get(@NonNull Entry<T> entry) {
+        int index = entry.getIndex();
+        if (index < 0 || index >= values.length || entry.origin.getRoot() != config) {
+            throw new IllegalArgumentException(entry + " is not an entry of " + config);
+        }
+        return (T) values[index];
+    }
+
+    /**
+     * Creates a copy of this snapshot with the new values of the specified changes.
+     */
+    ConfigSnapshot with(List<ChangeSet.Change<?>> changes) {
+        Object[] values = this.values.clone();
+        for (ChangeSet.Change<?> change : changes) {
+            values[change.entry().getIndex()] = change.newValue();
+        }
+        return new ConfigSnapshot(config, values);
+    }
+
+    /**
+     * Creates a copy of this snapshot with a new value of the specified entry.
+     */
+    ConfigSnapshot with(Entry<?> entry, Object value) {
+        Object[] values = this.values.clone();
+        values[entry.getIndex()] = value;
+        return new ConfigSnapshot(config, values);
+    }
+
+}
@@ -0,0 +1,141 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the files of configs with hot reload enabled and reloads a config when its file was changed externally. A
+ * background thread per file system serves all configs whose files are stored on it; it is started when the first of
+ * these configs gets watched and stops once none of them is watched anymore.
+ */
+@Slf4j(topic = "CompleteConfig")
+final class ConfigWatcher implements Runnable {
+
+    // Editors often write a file in multiple steps, so events are collected until no new ones arrive for this long
+    private static final long QUIET_PERIOD_MILLIS = 100;
+    private static final Map<FileSystem, ConfigWatcher> instances = new HashMap<>();
+
+    private static Path getPath(Config config) {
+        return config.getFilePath().toAbsolutePath().normalize();
+    }
+
+    static synchronized void watch(Config config) {
+        Path path = getPath(config);
+        ConfigWatcher watcher = instances.get(path.getFileSystem());
+        if (watcher == null) {
+            WatchService watchService;
+            try {
+                watchService = path.getFileSystem().newWatchService();
+            } catch (IOException | UnsupportedOperationException e) {
+                logger.error("Failed to create config file watcher", e);
+                return;
+            }
+            watcher = new ConfigWatcher(watchService);
+            instances.put(path.getFileSystem(), watcher);
+            Thread thread = new Thread(watcher, "CompleteConfig Watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        watcher.register(path, config);
+        // A watcher which could not watch any file would keep its thread running for nothing
+        if (watcher.keys.isEmpty()) {
+            watcher.close();
+            instances.remove(path.getFileSystem());
+        }
+    }
+
+    static synchronized void unwatch(Config config) {
+        Path path = getPath(config);
+        ConfigWatcher watcher = instances.get(path.getFileSystem());
+        if (watcher != null && watcher.unregister(path, config)) {
+            instances.remove(path.getFileSystem());
+        }
+    }
+
+    private final WatchService watchService;
+    private final Map<Path, Config> configs = new ConcurrentHashMap<>();
+    private final Map<Path, WatchKey> keys = new HashMap<>();
+
+    private ConfigWatcher(WatchService watchService) {
+        this.watchService = watchService;
+    }
+
+    private void register(Path path, Config config) {
+        if (configs.putIfAbsent(path, config) != null) return;
+        Path directory = path.getParent();
+        if (keys.containsKey(directory)) return;
+        try {
+            keys.put(directory, directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+        } catch (IOException | ProviderMismatchException | UnsupportedOperationException e) {
+            configs.remove(path);
+            logger.error("Failed to watch config file " + path, e);
+        }
+    }
+
+    /**
+     * Stops watching the file of a config.
+     *
+     * @return whether no files are watched anymore, in which case this watcher was closed
+     */
+    private boolean unregister(Path path, Config config) {
+        if (!configs.remove(path, config)) return false;
+        Path directory = path.getParent();
+        if (configs.keySet().stream().noneMatch(watchedPath -> watchedPath.getParent().equals(directory))) {
+            WatchKey key = keys.remove(directory);
+            if (key != null) {
+                key.cancel();
+            }
+        }
+        if (!keys.isEmpty()) return false;
+        close();
+        return true;
+    }
+
+    private void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.error("Failed to close config file watcher", e);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                Set<Path> changedPaths = new HashSet<>();
+                WatchKey key = watchService.take();
+                do {
+                    Path directory = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            changedPaths.addAll(configs.keySet());
+                        } else {
+                            changedPaths.add(directory.resolve((Path) event.context()).toAbsolutePath().normalize());
+                        }
+                    }
+                    key.reset();
+                } while ((key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null);
+                for (Path path : changedPaths) {
+                    Config config = configs.get(path);
+                    if (config == null) continue;
+                    try {
+                        config.getHotReloadExecutor().execute(config::reload);
+                    } catch (RuntimeException e) {
+                        logger.error("Failed to reload " + config, e);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignore) {
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import me.lortseam.completeconfig.data.metadata.ContainerMetadata;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+@UtilityClass
+@Slf4j(topic = "CompleteConfig")
+final class ContainerMetadataCache {
+
+    private static final ClassValue<Optional<ContainerMetadata>> metadata = new ClassValue<>() {
+        @Override
+        protected Optional<ContainerMetadata> computeValue(Class<?> clazz) {
+            Class<?> metadataClass;
+            try {
+                metadataClass = Class.forName(clazz.getName() + ContainerMetadata.CLASS_SUFFIX, true, clazz.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of((ContainerMetadata) metadataClass.getConstructor().newInstance());
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                logger.warn("Failed to load generated metadata of " + clazz + ", falling back to reflection", e);
+                return Optional.empty();
+            }
+        }
+    };
+
+    static Optional<ContainerMetadata> get(Class<?> clazz) {
+        return metadata.get(clazz);
+    }
+
+    static Field getField(Class<?> clazz, String name) {
+        try {
+            return clazz.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new RuntimeException("Generated metadata of " + clazz + " is outdated", e);
+        }
+    }
+
+    static Class<?> getNestedClass(Class<?> clazz, String name) {
+        try {
+            return Class.forName(name, false, clazz.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("Generated metadata of " + clazz + " is outdated", e);
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package me.lortseam.completeconfig.data;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * A bounded entry for fields of type {@code double}. The value can be read and written without boxing via
+ * {@link #getDouble()} and {@link #setDouble(double)}.
+ *
+ * <p>Values are compared with {@code <} and {@code >}, so {@code -0.0} lies within bounds starting at {@code 0.0}.
+ * {@code NaN} is treated as greater than the upper bound.
+ */
+public class DoubleEntry extends PrimitiveEntry<Double> {
+
+    private final double min, max;
+    // Unbounded entries must not clamp NaN
+    private final boolean bounded;
+    private final MethodHandle getter, setter;
+
+    public DoubleEntry(EntryOrigin origin, double min, double max) {
+        this(origin, min, max, true);
+    }
+
+    public DoubleEntry(EntryOrigin origin) {
+        this(origin, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, false);
+    }
+
+    private DoubleEntry(EntryOrigin origin, double min, double max, boolean bounded) {
+        super(origin, min, max, bounded, Double.doubleToLongBits(min), Double.doubleToLongBits(max));
+        this.min = min;
+        this.max = max;
+        this.bounded = bounded;
+        getter = getAccessor().getter(double.class);
+        setter = getAccessor().setter(double.class);
+    }
+
+    public final double getDouble() {
+        return Double.longBitsToDouble(readBits());
+    }
+
+    public final void setDouble(double value) {
+        writeBits(Double.doubleToLongBits(value));
+    }
+
+    @Override
+    final int compareToBounds(long bits) {
+        if (!bounded) return 0;
+        double value = Double.longBitsToDouble(bits);
+        if (value < min) return -1;
+        return value > max || Double.isNaN(value) ? 1 : 0;
+    }
+
+    @Override
+    final long getFieldBits() {
+        double value;
+        try {
+            value = (double) getter.invokeExact();
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+        return Double.doubleToLongBits(value);
+    }
+
+    @Override
+    final void setFieldBits(long bits) {
+        try {
+            setter.invokeExact(Double.longBitsToDouble(bits));
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set entry value", e);
+        }
+    }
+
+    @Override
+    final Double fromBits(long bits) {
+        return Double.longBitsToDouble(bits);
+    }
+
+}
@@ -11,6 +11,7 @@ import me.lortseam.completeconfig.data.structure.StructurePart;
 import me.lortseam.completeconfig.data.structure.client.DescriptionSupplier;
 import me.lortseam.completeconfig.data.structure.client.Translatable;
 import me.lortseam.completeconfig.data.transform.Transformation;
+import me.lortseam.completeconfig.jfr.EntryTransformEvent;
 import me.lortseam.completeconfig.text.TranslationBase;
 import me.lortseam.completeconfig.text.TranslationKey;
 import me.lortseam.completeconfig.util.ReflectionUtils;
@@ -21,25 +22,28 @@ import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.serialize.SerializationException;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
-import java.util.stream.Stream;
 
 @Slf4j(topic = "CompleteConfig")
 public class Entry<T> implements StructurePart, Identifiable, Translatable, DescriptionSupplier {
 
-    private static final Transformation DEFAULT_TRANSFORMATION = new Transformation(Transformation.filter(), Entry::new);
+    static final Transformation DEFAULT_TRANSFORMATION = new Transformation(Transformation.filter(), Entry::new);
+    private static final AtomicReferenceFieldUpdater<Entry, List> LISTENERS = AtomicReferenceFieldUpdater.newUpdater(Entry.class, List.class, "listeners");
 
     static Entry<?> create(EntryOrigin origin) {
-        return Stream.concat(origin.getRoot().getRegistry().getTransformations().stream(), Stream.of(DEFAULT_TRANSFORMATION)).filter(transformation -> {
-            return transformation.test(origin);
-        }).findFirst().orElseThrow(() -> {
+        EntryTransformEvent event = new EntryTransformEvent();
+        event.begin();
+        Entry<?> entry = origin.getRoot().getRegistry().findTransformation(origin).orElseThrow(() -> {
             return new UnsupportedOperationException("No suitable transformation found for field " + origin.getField());
         }).getTransformer().transform(origin);
+        event.complete(origin.getRoot(), 1, 0);
+        return entry;
     }
 
     protected final EntryOrigin origin;
@@ -57,8 +61,11 @@ public class Entry<T> implements StructurePart, Identifiable, Translatable, Desc
     @Getter
     private final boolean requiresRestart;
     private final String comment;
-    private final Setter<T> setter;
+    private final EntryAccessor accessor;
     private final UnaryOperator<T> revisor;
+    private volatile List<EntryListener<? super T>> listeners;
+    private final boolean revisedOnRead;
+    private int index = -1;
 
     protected Entry(EntryOrigin origin, UnaryOperator<T> revisor) {
         ConfigRegistry.registerEntryOrigin(origin);
@@ -72,8 +79,10 @@ public class Entry<T> implements StructurePart, Identifiable, Translatable, Desc
         id = annotation.isPresent() && !annotation.get().value().isBlank() ? annotation.get().value() : getField().getName();
         requiresRestart = annotation.isPresent() && annotation.get().requiresRestart();
         comment = annotation.isPresent() && !annotation.get().comment().isBlank() ? annotation.get().comment() : null;
-        setter = ReflectionUtils.getSetterMethod(getField(), origin.getObject()).<Setter<T>>map(method -> method::invoke).orElse((object, value) -> getField().set(object, value));
-        defaultValue = getValue();
+        accessor = EntryAccessor.of(getField(), origin.getObject());
+        revisedOnRead = revisor != null && origin.getRoot().getRevisionMode() != RevisionMode.WRITE;
+        revalidate();
+        defaultValue = getFieldValue();
     }
 
     protected Entry(EntryOrigin origin) {
@@ -84,6 +93,25 @@ public class Entry<T> implements StructurePart, Identifiable, Translatable, Desc
         return origin.getField();
     }
 
+    final EntryAccessor getAccessor() {
+        return accessor;
+    }
+
+    final boolean isRevisedOnRead() {
+        return revisedOnRead;
+    }
+
+    /**
+     * Returns the position of this entry in its config, which is assigned once the config was resolved.
+     */
+    final int getIndex() {
+        return index;
+    }
+
+    final void setIndex(int index) {
+        this.index = index;
+    }
+
     public final Type getType() {
         return origin.getType();
     }
@@ -93,18 +121,14 @@ public class Entry<T> implements StructurePart, Identifiable, Translatable, Desc
     }
 
     public final T getValue() {
-        if (update()) {
+        if (revisedOnRead && update()) {
             return getValue();
         }
         return getFieldValue();
     }
 
     private T getFieldValue() {
-        try {
-            return (T) Objects.requireNonNull(getField().get(origin.getObject()), getField().toString());
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Failed to get entry value", e);
-        }
+        return (T) Objects.requireNonNull(accessor.get(), getField().toString());
     }
 
     public final void setValue(@NonNull T value) {
@@ -115,27 +139,114 @@ public class Entry<T> implements StructurePart, Identifiable, Translatable, Desc
         return update(getFieldValue());
     }
 
+    final void revalidate() {
+        if (revisor != null) {
+            update();
+        }
+    }
+
     private boolean update(T value) {
         if (revisor != null) {
             value = revisor.apply(value);
         }
-        if (value.equals(getFieldValue())) {
+        T oldValue = getFieldValue();
+        if (value.equals(oldValue)) {
             return false;
         }
-        set(value);
+        write(value);
+        notifyUpdate();
+        if (isObserved()) {
+            notifyListeners(oldValue, value);
+        }
+        return true;
+    }
+
+    private void write(T value) {
+        if (isPublished()) {
+            writePublished(value);
+        } else {
+            set(value);
+            republishIfRequired();
+        }
+    }
+
+    /**
+     * Checks whether a value written through this entry needs to be published to the snapshot of its config right
+     * away. If so, it has to be written with {@link #writePublished(Object)}.
+     */
+    final boolean isPublished() {
+        return origin.getRoot().isPublishing();
+    }
+
+    /**
+     * Writes a value and publishes it to the snapshot of the config.
+     */
+    final void writePublished(T value) {
+        origin.getRoot().writePublished(this, value);
+    }
+
+    /**
+     * Publishes the current value after it was written without publishing, in case the first snapshot of the config
+     * was taken concurrently.
+     */
+    final void republishIfRequired() {
+        if (isPublished()) {
+            origin.getRoot().publishCurrentValue(this);
+        }
+    }
+
+    final void notifyUpdate() {
+        if (origin.getRoot().deferUpdate(origin.getContainer())) return;
         origin.getContainer().onContainerEntryUpdate();
         origin.getRoot().onConfigEntryUpdate();
-        return true;
     }
 
-    private void set(T value) {
-        try {
-            setter.set(origin.getObject(), value);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException("Failed to set entry value", e);
+    /**
+     * Restores a previous value without any callbacks.
+     */
+    final void restore(T value) {
+        set(value);
+    }
+
+    /**
+     * Checks whether this entry is observed by a listener or a transaction. If not, old and new values do not need to be
+     * tracked.
+     */
+    final boolean isObserved() {
+        return listeners != null || origin.getRoot().isObserving();
+    }
+
+    final void notifyListeners(T oldValue, T newValue) {
+        if (!origin.getRoot().recordChange(this, oldValue, newValue)) {
+            notifyEntryListeners(oldValue, newValue);
+        }
+    }
+
+    final void notifyEntryListeners(T oldValue, T newValue) {
+        List<EntryListener<? super T>> listeners = this.listeners;
+        if (listeners == null) return;
+        for (EntryListener<? super T> listener : listeners) {
+            listener.onUpdate(oldValue, newValue);
         }
     }
 
+    /**
+     * Adds a listener which gets called whenever the value of this entry is updated through this entry.
+     *
+     * @param listener the listener
+     */
+    public final void addListener(@NonNull EntryListener<? super T> listener) {
+        LISTENERS.updateAndGet(this, listeners -> Listeners.add(listeners, listener));
+    }
+
+    public final void removeListener(@NonNull EntryListener<? super T> listener) {
+        LISTENERS.updateAndGet(this, listeners -> Listeners.remove(listeners, listener));
+    }
+
+    final void set(T value) {
+        accessor.set(value);
+    }
+
     @Override
     public final TranslationKey getNameTranslation() {
         if (translation == null) {
@@ -199,11 +310,4 @@ public class Entry<T> implements StructurePart, Identifiable, Translatable, Desc
         return getField().toString();
     }
 
-    @FunctionalInterface
-    private interface Setter<T> {
-
-        void set(Object object, T value) throws IllegalAccessException, InvocationTargetException;
-
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+/**
+ * Reads and writes the field of an entry through method handles, which get bound to the entry's object once when the
+ * entry is resolved. If the field has a setter method, values are written through that method instead.
+ */
+final class EntryAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    static EntryAccessor of(Field field, Object object) {
+        MethodHandle getter, setter;
+        try {
+            getter = LOOKUP.unreflectGetter(field);
+            Optional<Method> setterMethod = ReflectionUtils.getSetterMethod(field, object);
+            setter = setterMethod.isPresent() ? LOOKUP.unreflect(setterMethod.get()) : LOOKUP.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Failed to access field " + field, e);
+        }
+        if (!Modifier.isStatic(field.getModifiers())) {
+            getter = getter.bindTo(object);
+            setter = setter.bindTo(object);
+        }
+        return new EntryAccessor(getter, setter);
+    }
+
+    private final MethodHandle typedGetter;
+    private final MethodHandle typedSetter;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private EntryAccessor(MethodHandle getter, MethodHandle setter) {
+        typedGetter = getter;
+        typedSetter = setter;
+        this.getter = getter.asType(MethodType.methodType(Object.class));
+        this.setter = setter.asType(MethodType.methodType(void.class, Object.class));
+    }
+
+    /**
+     * Creates a getter handle of type {@code ()type}, which allows reading primitive fields without boxing.
+     */
+    MethodHandle getter(Class<?> type) {
+        return typedGetter.asType(MethodType.methodType(type));
+    }
+
+    /**
+     * Creates a setter handle of type {@code (type)void}, which allows writing primitive fields without boxing.
+     */
+    MethodHandle setter(Class<?> type) {
+        return typedSetter.asType(MethodType.methodType(void.class, type));
+    }
+
+    Object get() {
+        try {
+            return (Object) getter.invokeExact();
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+    }
+
+    void set(Object value) {
+        try {
+            setter.invokeExact(value);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set entry value", e);
+        }
+    }
+
+}
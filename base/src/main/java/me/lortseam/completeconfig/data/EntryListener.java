@@ -0,0 +1,21 @@
+package me.lortseam.completeconfig.data;
+
+/**
+ * Listens to value updates of a single entry.
+ *
+ * @param <T> the entry value type
+ *
+ * @see Entry#addListener(EntryListener)
+ */
+@FunctionalInterface
+public interface EntryListener<T> {
+
+    /**
+     * Called after the value of the entry was updated.
+     *
+     * @param oldValue the previous value
+     * @param newValue the new value
+     */
+    void onUpdate(T oldValue, T newValue);
+
+}
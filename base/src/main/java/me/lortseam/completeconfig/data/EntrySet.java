@@ -4,11 +4,17 @@ import me.lortseam.completeconfig.api.ConfigContainer;
 import me.lortseam.completeconfig.api.ConfigEntries;
 import me.lortseam.completeconfig.api.ConfigEntry;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.stream.Stream;
 
 public class EntrySet extends OrderedSet<Entry> {
 
+    private static boolean isConstant(Field field) {
+        return Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers());
+    }
+
     EntrySet(Parent parent) {
         super(parent);
     }
@@ -16,15 +22,15 @@ public class EntrySet extends OrderedSet<Entry> {
     void resolve(ConfigContainer container) {
         var root = parent.getRoot();
         for (Class<? extends ConfigContainer> clazz : container.getConfigClasses()) {
-            Arrays.stream(clazz.getDeclaredFields()).filter(field -> {
-                if (clazz != container.getClass() && Modifier.isStatic(field.getModifiers())) {
-                    return false;
-                }
+            Stream<Field> fields = ContainerMetadataCache.get(clazz).map(metadata -> {
+                return metadata.getEntryFields().stream().map(name -> ContainerMetadataCache.getField(clazz, name));
+            }).orElseGet(() -> Arrays.stream(clazz.getDeclaredFields()).filter(field -> {
                 if (clazz.isAnnotationPresent(ConfigEntries.class) && clazz.getAnnotation(ConfigEntries.class).includeAll()) {
-                    return !ConfigContainer.class.isAssignableFrom(field.getType()) && !field.isAnnotationPresent(ConfigEntries.Exclude.class) && !Modifier.isTransient(field.getModifiers());
+                    return !ConfigContainer.class.isAssignableFrom(field.getType()) && !field.isAnnotationPresent(ConfigEntries.Exclude.class) && !Modifier.isTransient(field.getModifiers()) && !isConstant(field);
                 }
                 return field.isAnnotationPresent(ConfigEntry.class);
-            }).map(field -> {
+            }));
+            fields.filter(field -> clazz == container.getClass() || !Modifier.isStatic(field.getModifiers())).map(field -> {
                 if (Modifier.isFinal(field.getModifiers())) {
                     throw new RuntimeException("Entry field " + field + " must not be final");
                 }
@@ -0,0 +1,77 @@
+package me.lortseam.completeconfig.data;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * A bounded entry for fields of type {@code float}. The value can be read and written without boxing via
+ * {@link #getFloat()} and {@link #setFloat(float)}.
+ *
+ * <p>Values are compared with {@code <} and {@code >}, so {@code -0.0} lies within bounds starting at {@code 0.0}.
+ * {@code NaN} is treated as greater than the upper bound.
+ */
+public class FloatEntry extends PrimitiveEntry<Float> {
+
+    private final float min, max;
+    // Unbounded entries must not clamp NaN
+    private final boolean bounded;
+    private final MethodHandle getter, setter;
+
+    public FloatEntry(EntryOrigin origin, float min, float max) {
+        this(origin, min, max, true);
+    }
+
+    public FloatEntry(EntryOrigin origin) {
+        this(origin, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, false);
+    }
+
+    private FloatEntry(EntryOrigin origin, float min, float max, boolean bounded) {
+        super(origin, min, max, bounded, Float.floatToIntBits(min), Float.floatToIntBits(max));
+        this.min = min;
+        this.max = max;
+        this.bounded = bounded;
+        getter = getAccessor().getter(float.class);
+        setter = getAccessor().setter(float.class);
+    }
+
+    public final float getFloat() {
+        return Float.intBitsToFloat((int) readBits());
+    }
+
+    public final void setFloat(float value) {
+        writeBits(Float.floatToIntBits(value));
+    }
+
+    @Override
+    final int compareToBounds(long bits) {
+        if (!bounded) return 0;
+        float value = Float.intBitsToFloat((int) bits);
+        if (value < min) return -1;
+        return value > max || Float.isNaN(value) ? 1 : 0;
+    }
+
+    @Override
+    final long getFieldBits() {
+        float value;
+        try {
+            value = (float) getter.invokeExact();
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+        return Float.floatToIntBits(value);
+    }
+
+    @Override
+    final void setFieldBits(long bits) {
+        try {
+            setter.invokeExact(Float.intBitsToFloat((int) bits));
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set entry value", e);
+        }
+    }
+
+    @Override
+    final Float fromBits(long bits) {
+        return Float.intBitsToFloat((int) bits);
+    }
+
+}
@@ -0,0 +1,63 @@
+package me.lortseam.completeconfig.data;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * A bounded entry for fields of type {@code int}. The value can be read and written without boxing via
+ * {@link #getInt()} and {@link #setInt(int)}.
+ */
+public class IntEntry extends PrimitiveEntry<Integer> {
+
+    private final int min, max;
+    private final MethodHandle getter, setter;
+
+    public IntEntry(EntryOrigin origin, int min, int max) {
+        super(origin, min, max, min != Integer.MIN_VALUE || max != Integer.MAX_VALUE, min, max);
+        this.min = min;
+        this.max = max;
+        getter = getAccessor().getter(int.class);
+        setter = getAccessor().setter(int.class);
+    }
+
+    public IntEntry(EntryOrigin origin) {
+        this(origin, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    public final int getInt() {
+        return (int) readBits();
+    }
+
+    public final void setInt(int value) {
+        writeBits(value);
+    }
+
+    @Override
+    final int compareToBounds(long bits) {
+        int value = (int) bits;
+        return value < min ? -1 : value > max ? 1 : 0;
+    }
+
+    @Override
+    final long getFieldBits() {
+        try {
+            return (int) getter.invokeExact();
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+    }
+
+    @Override
+    final void setFieldBits(long bits) {
+        try {
+            setter.invokeExact((int) bits);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set entry value", e);
+        }
+    }
+
+    @Override
+    final Integer fromBits(long bits) {
+        return (int) bits;
+    }
+
+}
@@ -0,0 +1,38 @@
+package me.lortseam.completeconfig.data;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Operations on listener lists which are replaced instead of modified, so that they can be updated with a single
+ * compare-and-set and iterated without locking. An empty list is represented by {@code null}, which lets callers
+ * check for listeners with a single read.
+ */
+@UtilityClass
+final class Listeners {
+
+    static <T> List<T> add(@Nullable List<T> listeners, T listener) {
+        if (listeners == null) {
+            return List.of(listener);
+        }
+        List<T> result = new ArrayList<>(listeners.size() + 1);
+        result.addAll(listeners);
+        result.add(listener);
+        return Collections.unmodifiableList(result);
+    }
+
+    static <T> @Nullable List<T> remove(@Nullable List<T> listeners, Object listener) {
+        if (listeners == null) return null;
+        int index = listeners.indexOf(listener);
+        if (index < 0) return listeners;
+        if (listeners.size() == 1) return null;
+        List<T> result = new ArrayList<>(listeners);
+        result.remove(index);
+        return Collections.unmodifiableList(result);
+    }
+
+}
@@ -0,0 +1,63 @@
+package me.lortseam.completeconfig.data;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * A bounded entry for fields of type {@code long}. The value can be read and written without boxing via
+ * {@link #getLong()} and {@link #setLong(long)}.
+ */
+public class LongEntry extends PrimitiveEntry<Long> {
+
+    private final long min, max;
+    private final MethodHandle getter, setter;
+
+    public LongEntry(EntryOrigin origin, long min, long max) {
+        super(origin, min, max, min != Long.MIN_VALUE || max != Long.MAX_VALUE, min, max);
+        this.min = min;
+        this.max = max;
+        getter = getAccessor().getter(long.class);
+        setter = getAccessor().setter(long.class);
+    }
+
+    public LongEntry(EntryOrigin origin) {
+        this(origin, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    public final long getLong() {
+        return readBits();
+    }
+
+    public final void setLong(long value) {
+        writeBits(value);
+    }
+
+    @Override
+    final int compareToBounds(long bits) {
+        long value = bits;
+        return value < min ? -1 : value > max ? 1 : 0;
+    }
+
+    @Override
+    final long getFieldBits() {
+        try {
+            return (long) getter.invokeExact();
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to get entry value", e);
+        }
+    }
+
+    @Override
+    final void setFieldBits(long bits) {
+        try {
+            setter.invokeExact(bits);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to set entry value", e);
+        }
+    }
+
+    @Override
+    final Long fromBits(long bits) {
+        return bits;
+    }
+
+}
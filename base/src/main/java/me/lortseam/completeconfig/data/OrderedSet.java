@@ -27,6 +27,10 @@ abstract class OrderedSet<T extends StructurePart & Identifiable> extends Abstra
         return map.size();
     }
 
+    T get(String id) {
+        return map.get(id);
+    }
+
     @Override
     public boolean add(T t) {
         return map.put(t.getId(), t) != t;
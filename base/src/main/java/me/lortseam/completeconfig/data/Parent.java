@@ -1,12 +1,15 @@
 package me.lortseam.completeconfig.data;
 
 import lombok.AccessLevel;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import me.lortseam.completeconfig.api.ConfigContainer;
 import me.lortseam.completeconfig.api.ConfigGroup;
+import me.lortseam.completeconfig.data.metadata.ContainerMetadata;
 import me.lortseam.completeconfig.data.structure.Identifiable;
 import me.lortseam.completeconfig.data.structure.StructurePart;
 import me.lortseam.completeconfig.data.structure.client.Translatable;
+import me.lortseam.completeconfig.jfr.ContainerResolveEvent;
 import me.lortseam.completeconfig.text.TranslationBase;
 import me.lortseam.completeconfig.text.TranslationKey;
 import me.lortseam.completeconfig.util.ReflectionUtils;
@@ -16,11 +19,10 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
+import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 
@@ -54,9 +56,56 @@ public abstract class Parent implements StructurePart, Translatable {
         return Collections.unmodifiableCollection(clusters);
     }
 
+    /**
+     * Retrieves a direct child entry by its ID.
+     *
+     * @param id the entry ID
+     * @return the entry, or an empty optional if this parent has no entry with that ID
+     */
+    public final Optional<Entry<?>> getEntry(@NonNull String id) {
+        return Optional.ofNullable(entries.get(id));
+    }
+
+    /**
+     * Retrieves a direct child cluster by its ID.
+     *
+     * @param id the cluster ID
+     * @return the cluster, or an empty optional if this parent has no cluster with that ID
+     */
+    public final Optional<Cluster> getCluster(@NonNull String id) {
+        return Optional.ofNullable(clusters.get(id));
+    }
+
+    private static ConfigContainer getTransitiveFieldValue(Field field, ConfigContainer container) {
+        if (!field.canAccess(Modifier.isStatic(field.getModifiers()) ? null : container)) {
+            field.setAccessible(true);
+        }
+        try {
+            return (ConfigContainer) field.get(container);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static ConfigContainer instantiateTransitiveClass(Class<?> nestedClass) {
+        try {
+            return (ConfigContainer) ReflectionUtils.instantiateClass(nestedClass);
+        } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
+            throw new RuntimeException("Failed to instantiate nested " + nestedClass, e);
+        }
+    }
+
     final void resolveContainer(ConfigContainer container) {
+        ContainerResolveEvent event = new ContainerResolveEvent();
+        event.begin();
+        int entryCount = entries.size();
         entries.resolve(container);
         for (Class<? extends ConfigContainer> clazz : container.getConfigClasses()) {
+            Optional<ContainerMetadata> metadata = ContainerMetadataCache.get(clazz);
+            if (metadata.isPresent()) {
+                resolveFromMetadata(container, clazz, metadata.get());
+                continue;
+            }
             Arrays.stream(clazz.getDeclaredFields()).filter(field -> {
                 if (field.isAnnotationPresent(ConfigContainer.Transitive.class)) {
                     if (!ConfigContainer.class.isAssignableFrom(field.getType())) {
@@ -65,16 +114,7 @@ public abstract class Parent implements StructurePart, Translatable {
                     return !Modifier.isStatic(field.getModifiers()) || clazz == container.getClass();
                 }
                 return false;
-            }).map(field -> {
-                if (!field.canAccess(container)) {
-                    field.setAccessible(true);
-                }
-                try {
-                    return (ConfigContainer) field.get(container);
-                } catch (IllegalAccessException e) {
-                    throw new RuntimeException(e);
-                }
-            }).forEach(this::resolve);
+            }).map(field -> getTransitiveFieldValue(field, container)).forEach(this::resolve);
             Class<?>[] nestedClasses = clazz.getDeclaredClasses();
             ArrayUtils.reverse(nestedClasses);
             Arrays.stream(nestedClasses).filter(nestedClass -> {
@@ -88,18 +128,28 @@ public abstract class Parent implements StructurePart, Translatable {
                     return true;
                 }
                 return false;
-            }).map(nestedClass -> {
-                try {
-                    return (ConfigContainer) ReflectionUtils.instantiateClass(nestedClass);
-                } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
-                    throw new RuntimeException("Failed to instantiate nested " + nestedClass, e);
-                }
-            }).forEach(this::resolve);
+            }).map(Parent::instantiateTransitiveClass).forEach(this::resolve);
         }
         var transitives = container.getTransitives();
         if (transitives != null) {
             transitives.forEach(this::resolve);
         }
+        event.complete(getRoot(), entries.size() - entryCount, 0);
+    }
+
+    private void resolveFromMetadata(ConfigContainer container, Class<? extends ConfigContainer> clazz, ContainerMetadata metadata) {
+        List<String> transitiveFields = metadata.getTransitiveFields();
+        for (int i = 0; i < transitiveFields.size(); i++) {
+            Field field = ContainerMetadataCache.getField(clazz, transitiveFields.get(i));
+            if (Modifier.isStatic(field.getModifiers()) && clazz != container.getClass()) continue;
+            var accessor = metadata.getTransitiveFieldAccessor(i);
+            resolve(accessor != null ? accessor.apply(container) : getTransitiveFieldValue(field, container));
+        }
+        List<String> transitiveClasses = metadata.getTransitiveClasses();
+        for (int i = 0; i < transitiveClasses.size(); i++) {
+            var factory = metadata.getTransitiveClassFactory(i);
+            resolve(factory != null ? factory.get() : instantiateTransitiveClass(ContainerMetadataCache.getNestedClass(clazz, transitiveClasses.get(i))));
+        }
     }
 
     final void resolve(ConfigContainer... containers) {
@@ -124,6 +174,16 @@ public abstract class Parent implements StructurePart, Translatable {
         propagateToChildren(clusters, node, StructurePart::fetch);
     }
 
+    void revalidate() {
+        entries.forEach(Entry::revalidate);
+        clusters.forEach(Parent::revalidate);
+    }
+
+    void collectEntries(List<Entry<?>> list) {
+        list.addAll(entries);
+        clusters.forEach(cluster -> cluster.collectEntries(list));
+    }
+
     final boolean isEmpty() {
         return entries.isEmpty() && clusters.isEmpty();
     }
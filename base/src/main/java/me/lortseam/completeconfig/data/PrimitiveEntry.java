@@ -0,0 +1,69 @@
+package me.lortseam.completeconfig.data;
+
+/**
+ * A bounded entry for fields of a primitive number type. Its typed accessors pass values around as bits in a
+ * {@code long}, so that reading and writing them does not box. Values are only boxed if they get published to a
+ * snapshot or delivered to listeners. Subclasses convert between their type and the bits and access the field.
+ */
+abstract class PrimitiveEntry<T extends Number> extends BoundedEntry<T> {
+
+    private final long minBits, maxBits;
+
+    PrimitiveEntry(EntryOrigin origin, T min, T max, boolean bounded, long minBits, long maxBits) {
+        super(origin, min, max, bounded ? createRevisor(origin, min, max) : null);
+        this.minBits = minBits;
+        this.maxBits = maxBits;
+    }
+
+    /**
+     * Checks where a value lies in relation to the bounds.
+     *
+     * @return a negative number if the value is less than the lower bound, a positive number if it is greater than the
+     * upper bound, or 0 if it lies within the bounds
+     */
+    abstract int compareToBounds(long bits);
+
+    abstract long getFieldBits();
+
+    abstract void setFieldBits(long bits);
+
+    abstract T fromBits(long bits);
+
+    final long readBits() {
+        long bits = getFieldBits();
+        if (isRevisedOnRead() && compareToBounds(bits) != 0) {
+            writeBits(bits);
+            return getFieldBits();
+        }
+        return bits;
+    }
+
+    final void writeBits(long bits) {
+        bits = revise(bits);
+        long oldBits = getFieldBits();
+        if (bits == oldBits) return;
+        if (isPublished()) {
+            writePublished(fromBits(bits));
+        } else {
+            setFieldBits(bits);
+            republishIfRequired();
+        }
+        notifyUpdate();
+        if (isObserved()) {
+            notifyListeners(fromBits(oldBits), fromBits(bits));
+        }
+    }
+
+    private long revise(long bits) {
+        int position = compareToBounds(bits);
+        if (position < 0) {
+            warnLessThanLowerBound(origin);
+            return minBits;
+        } else if (position > 0) {
+            warnGreaterThanUpperBound(origin);
+            return maxBits;
+        }
+        return bits;
+    }
+
+}
@@ -0,0 +1,18 @@
+package me.lortseam.completeconfig.data;
+
+/**
+ * Determines when the values of entries with a revisor, for example the bounds of a {@link BoundedEntry}, get revised.
+ */
+public enum RevisionMode {
+
+    /**
+     * Values get revised on every read and write. Values written directly to the field are revised on the next read.
+     */
+    READ,
+    /**
+     * Values get revised only when written through the entry, so reading an entry is a single field access. Values
+     * written directly to the field are revised by {@link Config#revalidate()} and before the config is saved.
+     */
+    WRITE
+
+}
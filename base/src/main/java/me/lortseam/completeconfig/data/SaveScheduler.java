@@ -0,0 +1,196 @@
+package me.lortseam.completeconfig.data;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import me.lortseam.completeconfig.jfr.ConfigSaveEvent;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Writes the config file of a single config. Asynchronous saves are coalesced: every save requested within the save
+ * delay after the first one only replaces the node tree to write. Writes are ordered, so a file is never overwritten
+ * with an older node tree than the one written last.
+ *
+ * <p>The hash of the file content, as last read or written, is remembered. Rendered output with the same hash is not
+ * written again, so saving an unchanged config does not touch the file. Whenever the file is written, the node tree
+ * is also stored in the config's binary cache.
+ */
+@Slf4j(topic = "CompleteConfig")
+final class SaveScheduler {
+
+    private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("CompleteConfig Saver")
+            .setDaemon(true)
+            .build());
+    private static final Set<SaveScheduler> schedulers = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> schedulers.forEach(SaveScheduler::flush), "CompleteConfig Save Flush"));
+    }
+
+    static HashCode hash(byte[] content) {
+        return Hashing.murmur3_128().hashBytes(content);
+    }
+
+    /**
+     * Writes the content to a temporary sibling file first, which then replaces the file. The temporary file is
+     * created with the default permissions, so that the umask applies, and takes over the permissions of the replaced
+     * file if there is one.
+     */
+    static void writeAtomically(Path path, byte[] content) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = directory.resolve(path.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                out.write(content);
+            }
+            if (Files.exists(path) && Files.getFileAttributeView(path, PosixFileAttributeView.class) != null) {
+                Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(path));
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private final Config config;
+    private final Object writeLock = new Object();
+    private PendingSave pendingSave;
+    private long requestedSequence;
+    private long writtenSequence;
+    private HashCode writtenHash;
+
+    SaveScheduler(Config config) {
+        this.config = config;
+        schedulers.add(this);
+    }
+
+    synchronized CompletableFuture<Void> schedule(CommentedConfigurationNode node) {
+        if (pendingSave == null) {
+            PendingSave save = new PendingSave();
+            save.task = executor.schedule(() -> run(save), config.getSaveDelay().toNanos(), TimeUnit.NANOSECONDS);
+            pendingSave = save;
+        }
+        pendingSave.node = node;
+        pendingSave.sequence = ++requestedSequence;
+        return pendingSave.future;
+    }
+
+    /**
+     * Writes the node tree on the calling thread. A pending asynchronous save is superseded and completes once the
+     * node tree was written.
+     */
+    void saveNow(CommentedConfigurationNode node) throws Exception {
+        PendingSave superseded;
+        long sequence;
+        synchronized (this) {
+            superseded = takePendingSave();
+            sequence = ++requestedSequence;
+        }
+        try {
+            write(node, sequence);
+        } catch (Exception e) {
+            if (superseded != null) {
+                superseded.future.completeExceptionally(e);
+            }
+            throw e;
+        }
+        if (superseded != null) {
+            superseded.future.complete(null);
+        }
+    }
+
+    private PendingSave takePendingSave() {
+        PendingSave save = pendingSave;
+        if (save != null) {
+            save.task.cancel(false);
+            pendingSave = null;
+        }
+        return save;
+    }
+
+    private void run(PendingSave save) {
+        synchronized (this) {
+            // The save might have been superseded in the meantime
+            if (pendingSave != save) return;
+            pendingSave = null;
+        }
+        complete(save);
+    }
+
+    private void flush() {
+        PendingSave save;
+        synchronized (this) {
+            save = takePendingSave();
+        }
+        if (save != null) {
+            complete(save);
+        }
+    }
+
+    private void complete(PendingSave save) {
+        try {
+            write(save.node, save.sequence);
+            save.future.complete(null);
+        } catch (Exception e) {
+            logger.error("Failed to save config", e);
+            save.future.completeExceptionally(e);
+        }
+    }
+
+    private void write(CommentedConfigurationNode node, long sequence) throws Exception {
+        ConfigSaveEvent event = new ConfigSaveEvent();
+        event.begin();
+        byte[] content = config.render(node);
+        HashCode hash = hash(content);
+        long writtenBytes = 0;
+        synchronized (writeLock) {
+            if (sequence < writtenSequence) return;
+            Path path = config.getFilePath();
+            if (!hash.equals(writtenHash) || !Files.exists(path)) {
+                writeAtomically(path, content);
+                writtenHash = hash;
+                writtenBytes = content.length;
+                config.writeCache(node, hash);
+            }
+            writtenSequence = sequence;
+        }
+        event.complete(config, config.getEntryCount(), writtenBytes);
+    }
+
+    /**
+     * Remembers the hash of the config file content as it was read.
+     *
+     * @return whether the content differs from the content last read or written
+     */
+    boolean setFileHash(HashCode hash) {
+        synchronized (writeLock) {
+            if (hash.equals(writtenHash)) return false;
+            writtenHash = hash;
+            return true;
+        }
+    }
+
+    private static final class PendingSave {
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private ScheduledFuture<?> task;
+        private CommentedConfigurationNode node;
+        private long sequence;
+
+    }
+
+}
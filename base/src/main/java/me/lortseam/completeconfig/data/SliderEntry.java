@@ -13,12 +13,14 @@ import java.util.function.Function;
 public class SliderEntry<T extends Number> extends BoundedEntry<T> {
 
     private final T interval;
+    private final boolean intervalPositive;
     @Environment(EnvType.CLIENT)
     private TranslationKey valueTranslation;
 
     public SliderEntry(EntryOrigin origin, T min, T max, T interval) {
         super(origin, min, max);
         this.interval = interval;
+        intervalPositive = NumberUtils.isPositive(interval);
     }
 
     @Override
@@ -38,7 +40,7 @@ public class SliderEntry<T extends Number> extends BoundedEntry<T> {
     }
 
     public Optional<T> getInterval() {
-        return NumberUtils.isPositive(interval) ? Optional.of(interval) : Optional.empty();
+        return intervalPositive ? Optional.of(interval) : Optional.empty();
     }
 
 }
@@ -0,0 +1,60 @@
+package me.lortseam.completeconfig.data.format;
+
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+
+import java.io.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A binary format, see {@link NodeCodec}. The content starts with a magic number and a version, so that files written
+ * by a newer version are rejected instead of misread.
+ */
+final class BinaryFormat implements ConfigFormat {
+
+    private static final int MAGIC = 0x43434246;
+    private static final byte VERSION = 1;
+    private static final Set<Class<?>> NATIVE_TYPES = Set.of(Map.class, List.class, String.class, Boolean.class, Integer.class, Long.class, Float.class, Double.class);
+
+    @Override
+    public String getFileExtension() {
+        return ".bin";
+    }
+
+    @Override
+    public boolean isText() {
+        return false;
+    }
+
+    @Override
+    public ConfigurationOptions adaptOptions(ConfigurationOptions options) {
+        return options.nativeTypes(NATIVE_TYPES);
+    }
+
+    @Override
+    public CommentedConfigurationNode read(byte[] content, ConfigurationOptions options) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary config file");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary config version " + version);
+        }
+        return NodeCodec.read(in, options);
+    }
+
+    @Override
+    public byte[] write(ConfigurationNode node) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(content);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        NodeCodec.write(node, out);
+        return content.toByteArray();
+    }
+
+}
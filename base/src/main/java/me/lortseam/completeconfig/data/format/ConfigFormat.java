@@ -0,0 +1,67 @@
+package me.lortseam.completeconfig.data.format;
+
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.gson.GsonConfigurationLoader;
+import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+
+import java.io.IOException;
+
+/**
+ * A storage format of config files. Formats only convert between file content and node trees; values are converted
+ * by the type serializers of the node options, so every format supports the same entry types.
+ *
+ * @see me.lortseam.completeconfig.data.ConfigOptions.Builder#format(ConfigFormat)
+ */
+public interface ConfigFormat {
+
+    /**
+     * The default format. Supports comments.
+     */
+    ConfigFormat HOCON = new TextFormat(".conf", HoconConfigurationLoader::builder);
+    ConfigFormat JSON = new TextFormat(".json", GsonConfigurationLoader::builder);
+    /**
+     * A compact binary format, which is the fastest to read and write, but cannot be edited by hand. Comments are not
+     * stored.
+     */
+    ConfigFormat BINARY = new BinaryFormat();
+
+    /**
+     * @return the extension of files in this format, including the leading dot
+     */
+    String getFileExtension();
+
+    /**
+     * @return whether the content of this format is text and can therefore be read from and written to character
+     * streams
+     */
+    boolean isText();
+
+    /**
+     * Adapts the options of node trees to this format, for example by restricting the types which can be stored without
+     * conversion.
+     *
+     * @param options the options
+     * @return the adapted options
+     */
+    ConfigurationOptions adaptOptions(ConfigurationOptions options);
+
+    /**
+     * Parses file content to a node tree.
+     *
+     * @param content the file content
+     * @param options the options of the created nodes
+     * @return the root node
+     */
+    CommentedConfigurationNode read(byte[] content, ConfigurationOptions options) throws IOException;
+
+    /**
+     * Renders a node tree to file content.
+     *
+     * @param node the root node
+     * @return the file content
+     */
+    byte[] write(ConfigurationNode node) throws IOException;
+
+}
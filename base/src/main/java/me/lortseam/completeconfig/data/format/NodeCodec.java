@@ -0,0 +1,124 @@
+package me.lortseam.completeconfig.data.format;
+
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Encodes node trees in a compact binary form. Only values are encoded, comments are dropped. Scalars of types other
+ * than strings, booleans and numbers are encoded as strings, which the scalar serializers coerce back when the value
+ * is read.
+ */
+final class NodeCodec {
+
+    private static final byte NULL = 0;
+    private static final byte MAP = 1;
+    private static final byte LIST = 2;
+    private static final byte STRING = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte INT = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+
+    static void write(ConfigurationNode node, DataOutput out) throws IOException {
+        if (node.isMap()) {
+            Map<Object, ? extends ConfigurationNode> children = node.childrenMap();
+            out.writeByte(MAP);
+            out.writeInt(children.size());
+            for (Map.Entry<Object, ? extends ConfigurationNode> child : children.entrySet()) {
+                writeString(out, String.valueOf(child.getKey()));
+                write(child.getValue(), out);
+            }
+        } else if (node.isList()) {
+            var children = node.childrenList();
+            out.writeByte(LIST);
+            out.writeInt(children.size());
+            for (ConfigurationNode child : children) {
+                write(child, out);
+            }
+        } else {
+            Object value = node.rawScalar();
+            if (value == null) {
+                out.writeByte(NULL);
+            } else if (value instanceof Boolean booleanValue) {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean(booleanValue);
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                out.writeByte(INT);
+                out.writeInt(((Number) value).intValue());
+            } else if (value instanceof Long longValue) {
+                out.writeByte(LONG);
+                out.writeLong(longValue);
+            } else if (value instanceof Float floatValue) {
+                out.writeByte(FLOAT);
+                out.writeFloat(floatValue);
+            } else if (value instanceof Double doubleValue) {
+                out.writeByte(DOUBLE);
+                out.writeDouble(doubleValue);
+            } else {
+                out.writeByte(STRING);
+                writeString(out, value.toString());
+            }
+        }
+    }
+
+    // Unlike DataOutput#writeUTF, this does not limit the length of strings
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static CommentedConfigurationNode read(DataInput in, ConfigurationOptions options) throws IOException {
+        CommentedConfigurationNode root = CommentedConfigurationNode.root(options);
+        read(in, root);
+        return root;
+    }
+
+    private static void read(DataInput in, ConfigurationNode node) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL -> node.raw(null);
+            case MAP -> {
+                int size = in.readInt();
+                if (size == 0) {
+                    node.raw(Collections.emptyMap());
+                }
+                for (int i = 0; i < size; i++) {
+                    read(in, node.node(readString(in)));
+                }
+            }
+            case LIST -> {
+                int size = in.readInt();
+                if (size == 0) {
+                    node.raw(Collections.emptyList());
+                }
+                for (int i = 0; i < size; i++) {
+                    read(in, node.appendListNode());
+                }
+            }
+            case STRING -> node.raw(readString(in));
+            case BOOLEAN -> node.raw(in.readBoolean());
+            case INT -> node.raw(in.readInt());
+            case LONG -> node.raw(in.readLong());
+            case FLOAT -> node.raw(in.readFloat());
+            case DOUBLE -> node.raw(in.readDouble());
+            default -> throw new IOException("Unknown node type " + type);
+        }
+    }
+
+}
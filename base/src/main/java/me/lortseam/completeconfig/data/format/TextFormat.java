@@ -0,0 +1,60 @@
+package me.lortseam.completeconfig.data.format;
+
+import lombok.Getter;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A text format backed by a Configurate loader.
+ */
+final class TextFormat implements ConfigFormat {
+
+    @Getter
+    private final String fileExtension;
+    private final Supplier<? extends AbstractConfigurationLoader.Builder<?, ?>> loaderBuilder;
+    private final Set<Class<?>> nativeTypes;
+
+    TextFormat(String fileExtension, Supplier<? extends AbstractConfigurationLoader.Builder<?, ?>> loaderBuilder) {
+        this.fileExtension = fileExtension;
+        this.loaderBuilder = loaderBuilder;
+        nativeTypes = loaderBuilder.get().defaultOptions().nativeTypes();
+    }
+
+    @Override
+    public boolean isText() {
+        return true;
+    }
+
+    @Override
+    public ConfigurationOptions adaptOptions(ConfigurationOptions options) {
+        return options.nativeTypes(nativeTypes);
+    }
+
+    @Override
+    public CommentedConfigurationNode read(byte[] content, ConfigurationOptions options) throws IOException {
+        AbstractConfigurationLoader.Builder<?, ?> builder = loaderBuilder.get();
+        builder.defaultOptions(options);
+        builder.source(() -> new BufferedReader(new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)));
+        ConfigurationNode node = builder.build().load();
+        // Loaders of formats without comments create basic nodes
+        return node instanceof CommentedConfigurationNode commentedNode ? commentedNode : CommentedConfigurationNode.root(options).from(node);
+    }
+
+    @Override
+    public byte[] write(ConfigurationNode node) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        AbstractConfigurationLoader.Builder<?, ?> builder = loaderBuilder.get();
+        builder.defaultOptions(node.options());
+        builder.sink(() -> new BufferedWriter(new OutputStreamWriter(content, StandardCharsets.UTF_8)));
+        builder.build().save(node);
+        return content.toByteArray();
+    }
+
+}
@@ -0,0 +1,64 @@
+package me.lortseam.completeconfig.data.metadata;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Precomputed resolution metadata of a single {@link ConfigContainer} class, generated at compile time by the
+ * CompleteConfig annotation processor. If metadata is present for a class, it is used instead of scanning the class
+ * via reflection when resolving a config.
+ *
+ * <p>Implementations are named after the binary name of the described class with the suffix {@value #CLASS_SUFFIX}
+ * and must have a public no-args constructor. This interface is not meant to be implemented by hand.
+ */
+public interface ContainerMetadata {
+
+    String CLASS_SUFFIX = "_CompleteConfig";
+
+    /**
+     * Returns the names of the fields which are resolved as config entries, in declaration order.
+     *
+     * @return the entry field names
+     */
+    List<String> getEntryFields();
+
+    /**
+     * Returns the names of the fields annotated with {@link ConfigContainer.Transitive}, in declaration order.
+     *
+     * @return the transitive field names
+     */
+    List<String> getTransitiveFields();
+
+    /**
+     * Returns the binary names of the nested classes annotated with {@link ConfigContainer.Transitive}, in declaration
+     * order.
+     *
+     * @return the transitive class names
+     */
+    List<String> getTransitiveClasses();
+
+    /**
+     * Returns a direct accessor for the transitive field at the specified index of {@link #getTransitiveFields()}.
+     *
+     * @param index the field index
+     * @return the accessor, or {@code null} if the field is not accessible from generated code
+     */
+    default @Nullable Function<ConfigContainer, ConfigContainer> getTransitiveFieldAccessor(int index) {
+        return null;
+    }
+
+    /**
+     * Returns a direct factory for the transitive class at the specified index of {@link #getTransitiveClasses()}.
+     *
+     * @param index the class index
+     * @return the factory, or {@code null} if the class can not be instantiated from generated code
+     */
+    default @Nullable Supplier<ConfigContainer> getTransitiveClassFactory(int index) {
+        return null;
+    }
+
+}
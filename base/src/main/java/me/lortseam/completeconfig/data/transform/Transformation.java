@@ -6,16 +6,17 @@ import lombok.NoArgsConstructor;
 import me.lortseam.completeconfig.api.ConfigEntry;
 import me.lortseam.completeconfig.data.*;
 import me.lortseam.completeconfig.util.ReflectionUtils;
-import org.apache.commons.lang3.ArrayUtils;
 
 import java.awt.*;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * A transformation is used to transform a field to an {@link me.lortseam.completeconfig.data.Entry}. This class stores
@@ -24,11 +25,15 @@ import java.util.stream.Collectors;
  */
 public final class Transformation {
 
-    private static final Set<Class<? extends Annotation>> registeredAnnotations = new HashSet<>();
+    private static final Set<Class<? extends Annotation>> registeredAnnotations = ConcurrentHashMap.newKeySet();
 
     public static final Transformation[] DEFAULTS = new Transformation[] {
             new Transformation(filter().byType(boolean.class, Boolean.class).byAnnotation(ConfigEntry.Boolean.class, true), BooleanEntry::new),
-            new Transformation(filter().byType(int.class, Integer.class).byAnnotation(ConfigEntry.BoundedInteger.class), origin -> {
+            new Transformation(filter().byType(int.class).byAnnotation(ConfigEntry.BoundedInteger.class), origin -> {
+                ConfigEntry.BoundedInteger bounds = origin.getAnnotation(ConfigEntry.BoundedInteger.class);
+                return new IntEntry(origin, bounds.min(), bounds.max());
+            }),
+            new Transformation(filter().byType(Integer.class).byAnnotation(ConfigEntry.BoundedInteger.class), origin -> {
                 ConfigEntry.BoundedInteger bounds = origin.getAnnotation(ConfigEntry.BoundedInteger.class);
                 return new BoundedEntry<>(origin, bounds.min(), bounds.max());
             }),
@@ -36,7 +41,11 @@ public final class Transformation {
                 ConfigEntry.BoundedInteger bounds = origin.getAnnotation(ConfigEntry.BoundedInteger.class);
                 return new SliderEntry<>(origin, bounds.min(), bounds.max(), origin.getOptionalAnnotation(ConfigEntry.IntegerSliderInterval.class).map(ConfigEntry.IntegerSliderInterval::value).orElse(0));
             }),
-            new Transformation(filter().byType(long.class, Long.class).byAnnotation(ConfigEntry.BoundedLong.class), origin -> {
+            new Transformation(filter().byType(long.class).byAnnotation(ConfigEntry.BoundedLong.class), origin -> {
+                ConfigEntry.BoundedLong bounds = origin.getAnnotation(ConfigEntry.BoundedLong.class);
+                return new LongEntry(origin, bounds.min(), bounds.max());
+            }),
+            new Transformation(filter().byType(Long.class).byAnnotation(ConfigEntry.BoundedLong.class), origin -> {
                 ConfigEntry.BoundedLong bounds = origin.getAnnotation(ConfigEntry.BoundedLong.class);
                 return new BoundedEntry<>(origin, bounds.min(), bounds.max());
             }),
@@ -44,7 +53,11 @@ public final class Transformation {
                 ConfigEntry.BoundedLong bounds = origin.getAnnotation(ConfigEntry.BoundedLong.class);
                 return new SliderEntry<>(origin, bounds.min(), bounds.max(), origin.getOptionalAnnotation(ConfigEntry.LongSliderInterval.class).map(ConfigEntry.LongSliderInterval::value).orElse(0L));
             }),
-            new Transformation(filter().byType(float.class, Float.class).byAnnotation(ConfigEntry.BoundedFloat.class), origin -> {
+            new Transformation(filter().byType(float.class).byAnnotation(ConfigEntry.BoundedFloat.class), origin -> {
+                ConfigEntry.BoundedFloat bounds = origin.getAnnotation(ConfigEntry.BoundedFloat.class);
+                return new FloatEntry(origin, bounds.min(), bounds.max());
+            }),
+            new Transformation(filter().byType(Float.class).byAnnotation(ConfigEntry.BoundedFloat.class), origin -> {
                 ConfigEntry.BoundedFloat bounds = origin.getAnnotation(ConfigEntry.BoundedFloat.class);
                 return new BoundedEntry<>(origin, bounds.min(), bounds.max());
             }),
@@ -52,7 +65,11 @@ public final class Transformation {
                 ConfigEntry.BoundedFloat bounds = origin.getAnnotation(ConfigEntry.BoundedFloat.class);
                 return new SliderEntry<>(origin, bounds.min(), bounds.max(), origin.getOptionalAnnotation(ConfigEntry.FloatSliderInterval.class).map(ConfigEntry.FloatSliderInterval::value).orElse(0f));
             }),
-            new Transformation(filter().byType(double.class, Double.class).byAnnotation(ConfigEntry.BoundedDouble.class), origin -> {
+            new Transformation(filter().byType(double.class).byAnnotation(ConfigEntry.BoundedDouble.class), origin -> {
+                ConfigEntry.BoundedDouble bounds = origin.getAnnotation(ConfigEntry.BoundedDouble.class);
+                return new DoubleEntry(origin, bounds.min(), bounds.max());
+            }),
+            new Transformation(filter().byType(Double.class).byAnnotation(ConfigEntry.BoundedDouble.class), origin -> {
                 ConfigEntry.BoundedDouble bounds = origin.getAnnotation(ConfigEntry.BoundedDouble.class);
                 return new BoundedEntry<>(origin, bounds.min(), bounds.max());
             }),
@@ -82,34 +99,60 @@ public final class Transformation {
      * @param transformer the transformer
      */
     public Transformation(Transformation.Filter filter, Transformer transformer) {
-        predicate = filter.build();
+        types = filter.types != null ? Set.copyOf(filter.types) : null;
+        typePredicate = filter.typePredicate;
+        requiredAnnotations = Set.copyOf(filter.requiredAnnotations);
+        optionalAnnotations = Set.copyOf(filter.optionalAnnotations);
         this.transformer = transformer;
     }
 
-    private final Predicate<EntryOrigin> predicate;
+    /**
+     * Returns the annotations of a field which are relevant for transformation filters, that is all registered
+     * annotations present on the field.
+     */
+    static Set<Class<? extends Annotation>> getAnnotationSignature(Field field) {
+        Set<Class<? extends Annotation>> signature = null;
+        for (Annotation annotation : field.getDeclaredAnnotations()) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (!registeredAnnotations.contains(annotationType)) continue;
+            if (signature == null) {
+                signature = new HashSet<>();
+            }
+            signature.add(annotationType);
+        }
+        return signature != null ? signature : Collections.emptySet();
+    }
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Set<Type> types;
+    private final Predicate<Type> typePredicate;
+    private final Set<Class<? extends Annotation>> requiredAnnotations;
+    private final Set<Class<? extends Annotation>> optionalAnnotations;
     @Getter
     private final Transformer transformer;
 
     public boolean test(EntryOrigin origin) {
-        return predicate.test(origin);
+        return test(origin.getType(), getAnnotationSignature(origin.getField()));
+    }
+
+    boolean test(Type type, Set<Class<? extends Annotation>> annotationSignature) {
+        if (types != null && !types.contains(type)) return false;
+        if (typePredicate != null && !typePredicate.test(type)) return false;
+        if (!annotationSignature.containsAll(requiredAnnotations)) return false;
+        for (Class<? extends Annotation> annotation : annotationSignature) {
+            if (!requiredAnnotations.contains(annotation) && !optionalAnnotations.contains(annotation)) return false;
+        }
+        return true;
     }
 
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static class Filter {
 
-        private Predicate<EntryOrigin> predicate;
+        private Set<Type> types;
+        private Predicate<Type> typePredicate;
         private final Set<Class<? extends Annotation>> requiredAnnotations = new HashSet<>();
         private final Set<Class<? extends Annotation>> optionalAnnotations = new HashSet<>();
 
-        private Filter by(Predicate<EntryOrigin> predicate) {
-            if (this.predicate == null) {
-                this.predicate = predicate;
-            } else {
-                this.predicate = this.predicate.and(predicate);
-            }
-            return this;
-        }
-
         /**
          * Filters by field type.
          *
@@ -117,7 +160,13 @@ public final class Transformation {
          * @return this builder
          */
         public Filter byType(Type... types) {
-            return byType(type -> ArrayUtils.contains(types, type));
+            Set<Type> typeSet = new HashSet<>(Arrays.asList(types));
+            if (this.types == null) {
+                this.types = typeSet;
+            } else {
+                this.types.retainAll(typeSet);
+            }
+            return this;
         }
 
         /**
@@ -127,7 +176,12 @@ public final class Transformation {
          * @return this builder
          */
         public Filter byType(Predicate<Type> typePredicate) {
-            return by(origin -> typePredicate.test(origin.getType()));
+            if (this.typePredicate == null) {
+                this.typePredicate = typePredicate;
+            } else {
+                this.typePredicate = this.typePredicate.and(typePredicate);
+            }
+            return this;
         }
 
         /**
@@ -168,17 +222,6 @@ public final class Transformation {
             return this;
         }
 
-        private Predicate<EntryOrigin> build() {
-            by(origin -> {
-                Set<Class<? extends Annotation>> declaredAnnotations = Arrays.stream(origin.getField().getDeclaredAnnotations()).map(Annotation::annotationType).filter(registeredAnnotations::contains).collect(Collectors.toSet());
-                for (Class<? extends Annotation> requiredAnnotation : requiredAnnotations) {
-                    if (!declaredAnnotations.remove(requiredAnnotation)) return false;
-                }
-                return optionalAnnotations.containsAll(declaredAnnotations);
-            });
-            return predicate;
-        }
-
     }
 
 }
@@ -0,0 +1,65 @@
+package me.lortseam.completeconfig.data.transform;
+
+import me.lortseam.completeconfig.data.EntryOrigin;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A frozen index of transformations, which resolves the transformation for a field by its type and by the registered
+ * annotations present on it.
+ *
+ * <p>Transformations filtering by exact types are bucketed by these types, so only the bucket of a field's type and
+ * transformations without an exact type filter have to be tested. Since a filter only depends on the field type and the
+ * annotation signature, the resolved transformation is memoized per distinct combination of both; type predicates,
+ * such as the one detecting enums, are therefore evaluated once per combination instead of once per field.
+ */
+public final class TransformationIndex {
+
+    private final Transformation[] untyped;
+    private final Map<Type, Transformation[]> typed = new HashMap<>();
+    private final Map<Key, Optional<Transformation>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an index of the specified transformations. When resolving a field, the first matching transformation
+     * wins.
+     *
+     * @param transformations the transformations in order of precedence
+     */
+    public TransformationIndex(List<Transformation> transformations) {
+        untyped = transformations.stream().filter(transformation -> transformation.getTypes() == null).toArray(Transformation[]::new);
+        Set<Type> types = new HashSet<>();
+        for (Transformation transformation : transformations) {
+            if (transformation.getTypes() != null) {
+                types.addAll(transformation.getTypes());
+            }
+        }
+        for (Type type : types) {
+            typed.put(type, transformations.stream().filter(transformation -> {
+                return transformation.getTypes() == null || transformation.getTypes().contains(type);
+            }).toArray(Transformation[]::new));
+        }
+    }
+
+    /**
+     * Finds the first transformation whose filter the specified entry origin fulfills.
+     *
+     * @param origin the entry origin
+     * @return the transformation, or {@link Optional#empty()} if no transformation matches
+     */
+    public Optional<Transformation> find(EntryOrigin origin) {
+        return resolved.computeIfAbsent(new Key(origin.getType(), Transformation.getAnnotationSignature(origin.getField())), key -> {
+            for (Transformation transformation : typed.getOrDefault(key.type(), untyped)) {
+                if (transformation.test(key.type(), key.annotationSignature())) {
+                    return Optional.of(transformation);
+                }
+            }
+            return Optional.empty();
+        });
+    }
+
+    private record Key(Type type, Set<Class<? extends Annotation>> annotationSignature) {}
+
+}
@@ -0,0 +1,10 @@
+package me.lortseam.completeconfig.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("completeconfig.ConfigApply")
+@Label("Config Apply")
+@Description("Application of a node tree to the entries of a config")
+public final class ConfigApplyEvent extends ConfigEvent {}
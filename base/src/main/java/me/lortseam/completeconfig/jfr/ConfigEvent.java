@@ -0,0 +1,46 @@
+package me.lortseam.completeconfig.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import me.lortseam.completeconfig.data.Config;
+
+/**
+ * The base type of all CompleteConfig events, which can be recorded with Java Flight Recorder. Every event identifies
+ * the config by mod ID and branch.
+ */
+@Category("CompleteConfig")
+@StackTrace(false)
+public abstract class ConfigEvent extends Event {
+
+    @Label("Mod ID")
+    private String modId;
+    @Label("Branch")
+    private String branch;
+    @Label("Entry Count")
+    private int entryCount;
+    @Label("Byte Count")
+    @DataAmount
+    private long byteCount;
+
+    /**
+     * Ends this event and commits it if it is enabled and exceeded its threshold. The fields are only set when the
+     * event gets committed, so events are cheap while no recording is running.
+     *
+     * @param config the config
+     * @param entryCount the number of affected entries
+     * @param byteCount the number of bytes read or written, or 0
+     */
+    public final void complete(Config config, int entryCount, long byteCount) {
+        end();
+        if (!shouldCommit()) return;
+        modId = config.getMod().getId();
+        branch = String.join(".", config.getBranch());
+        this.entryCount = entryCount;
+        this.byteCount = byteCount;
+        commit();
+    }
+
+}
@@ -0,0 +1,10 @@
+package me.lortseam.completeconfig.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("completeconfig.ConfigFetch")
+@Label("Config Fetch")
+@Description("Collection of the entry values of a config into a node tree")
+public final class ConfigFetchEvent extends ConfigEvent {}
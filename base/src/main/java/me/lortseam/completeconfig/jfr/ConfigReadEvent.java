@@ -0,0 +1,10 @@
+package me.lortseam.completeconfig.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("completeconfig.ConfigRead")
+@Label("Config Read")
+@Description("Parsing of a config file or restoring its node tree from the cache")
+public final class ConfigReadEvent extends ConfigEvent {}
@@ -0,0 +1,10 @@
+package me.lortseam.completeconfig.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("completeconfig.ConfigSave")
+@Label("Config Save")
+@Description("Rendering and writing of a config file")
+public final class ConfigSaveEvent extends ConfigEvent {}
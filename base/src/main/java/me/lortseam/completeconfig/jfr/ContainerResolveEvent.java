@@ -0,0 +1,10 @@
+package me.lortseam.completeconfig.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("completeconfig.ContainerResolve")
+@Label("Container Resolution")
+@Description("Resolution of the entries and transitive containers of a config container")
+public final class ContainerResolveEvent extends ConfigEvent {}
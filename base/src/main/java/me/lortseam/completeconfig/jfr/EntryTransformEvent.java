@@ -0,0 +1,10 @@
+package me.lortseam.completeconfig.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("completeconfig.EntryTransform")
+@Label("Entry Transformation")
+@Description("Lookup of the transformation of a field and creation of its entry")
+public final class EntryTransformEvent extends ConfigEvent {}
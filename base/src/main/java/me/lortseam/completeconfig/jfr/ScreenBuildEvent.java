@@ -0,0 +1,10 @@
+package me.lortseam.completeconfig.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("completeconfig.ScreenBuild")
+@Label("Config Screen Build")
+@Description("Creation of the config screen of a config")
+public final class ScreenBuildEvent extends ConfigEvent {}
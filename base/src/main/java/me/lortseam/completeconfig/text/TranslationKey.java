@@ -4,43 +4,68 @@ import lombok.EqualsAndHashCode;
 import me.lortseam.completeconfig.data.Config;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.minecraft.client.resource.language.I18n;
 import net.minecraft.text.Text;
-import org.apache.commons.lang3.ArrayUtils;
 
-@EqualsAndHashCode
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A translation key. Keys form a tree: appending to a key returns a child node, which is created only once and shared
+ * by all keys with that prefix. Every node stores its full key, so that it never has to be joined again.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public final class TranslationKey {
 
-    private final String[] elements;
+    @EqualsAndHashCode.Include
+    private final String key;
+    private volatile Map<String, TranslationKey> children;
 
     @Environment(EnvType.CLIENT)
-    private TranslationKey(String... elements) {
-        this.elements = elements;
+    private TranslationKey(String key) {
+        this.key = key;
     }
 
     public TranslationKey(Config config) {
-        this("config", config.getMod().getId());
-    }
-
-    private String getKey() {
-        return String.join(".", elements);
+        this("config." + config.getMod().getId());
     }
 
     public boolean exists() {
-        return I18n.hasTranslation(getKey());
+        return TranslationLookup.hasTranslation(key);
     }
 
     public Text toText(Object... args) {
-        return Text.translatable(getKey(), args);
+        return Text.translatable(key, args);
+    }
+
+    private TranslationKey child(String element) {
+        Map<String, TranslationKey> children = this.children;
+        if (children == null) {
+            synchronized (this) {
+                children = this.children;
+                if (children == null) {
+                    children = new ConcurrentHashMap<>();
+                    this.children = children;
+                }
+            }
+        }
+        TranslationKey child = children.get(element);
+        if (child == null) {
+            child = children.computeIfAbsent(element, e -> new TranslationKey(key + "." + e));
+        }
+        return child;
     }
 
     public TranslationKey append(String... elements) {
-        return new TranslationKey(ArrayUtils.addAll(this.elements, elements));
+        TranslationKey key = this;
+        for (String element : elements) {
+            key = key.child(element);
+        }
+        return key;
     }
 
     @Override
     public String toString() {
-        return getKey();
+        return key;
     }
 
 }
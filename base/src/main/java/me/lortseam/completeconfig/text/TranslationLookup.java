@@ -0,0 +1,35 @@
+package me.lortseam.completeconfig.text;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.resource.language.I18n;
+import net.minecraft.util.Language;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches whether translations exist. Whenever the client reloads its resources, which also happens when the language
+ * gets changed, a new {@link Language} instance is installed. The cached results belong to the instance they were
+ * looked up in and are discarded as soon as another instance is installed.
+ */
+@Environment(EnvType.CLIENT)
+final class TranslationLookup {
+
+    private static volatile Table table;
+
+    private TranslationLookup() {}
+
+    static boolean hasTranslation(String key) {
+        Language language = Language.getInstance();
+        Table table = TranslationLookup.table;
+        if (table == null || table.language() != language) {
+            table = new Table(language, new ConcurrentHashMap<>());
+            TranslationLookup.table = table;
+        }
+        return table.results().computeIfAbsent(key, I18n::hasTranslation);
+    }
+
+    private record Table(Language language, Map<String, Boolean> results) {}
+
+}
@@ -3,14 +3,72 @@ package me.lortseam.completeconfig.util;
 import lombok.experimental.UtilityClass;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
 
 @UtilityClass
 public final class NumberUtils {
 
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
+    private static boolean isNonFinite(Number number) {
+        return (number instanceof Double || number instanceof Float) && !Double.isFinite(number.doubleValue());
+    }
+
+    /**
+     * Compares two numbers of arbitrary types. Prefer {@link #comparator(Class)} if the type is known in advance.
+     *
+     * <p>NaN and infinite values are ordered like {@link Double#compare(double, double)} does.
+     */
     public static int compare(Number first, Number second) {
+        if (isIntegral(first) && isIntegral(second)) {
+            return Long.compare(first.longValue(), second.longValue());
+        }
+        if (isNonFinite(first) || isNonFinite(second)) {
+            return Double.compare(first.doubleValue(), second.doubleValue());
+        }
         return new BigDecimal(first.toString()).compareTo(new BigDecimal(second.toString()));
     }
 
+    /**
+     * Compares floating point numbers with {@code <} and {@code >}, so that positive and negative zero are equal. Unlike
+     * these operators, NaN is ordered as well: it is equal to itself and greater than positive infinity.
+     */
+    private static int compareFloatingPoint(double first, double second) {
+        if (first < second) return -1;
+        if (first > second) return 1;
+        return Boolean.compare(Double.isNaN(first), Double.isNaN(second));
+    }
+
+    /**
+     * Creates a comparator for numbers of the specified type. Primitive wrapper types are compared natively, so
+     * comparing does not allocate. Floating point numbers are compared numerically, which means that positive and
+     * negative zero are equal, and NaN is greater than positive infinity.
+     *
+     * @param type the number type
+     * @return a comparator for the type
+     */
+    public static <T extends Number> Comparator<T> comparator(Class<T> type) {
+        Comparator<? extends Number> comparator;
+        if (type == Integer.class) {
+            comparator = (Comparator<Integer>) Integer::compare;
+        } else if (type == Long.class) {
+            comparator = (Comparator<Long>) Long::compare;
+        } else if (type == Float.class) {
+            comparator = (Comparator<Float>) NumberUtils::compareFloatingPoint;
+        } else if (type == Double.class) {
+            comparator = (Comparator<Double>) NumberUtils::compareFloatingPoint;
+        } else if (type == Short.class) {
+            comparator = (Comparator<Short>) Short::compare;
+        } else if (type == Byte.class) {
+            comparator = (Comparator<Byte>) Byte::compare;
+        } else {
+            comparator = (Comparator<Number>) NumberUtils::compare;
+        }
+        return (Comparator<T>) comparator;
+    }
+
     public static boolean isPositive(Number number) {
         return compare(number, 0) > 0;
     }
@@ -0,0 +1,148 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.data.listeners.BatchListener;
+import net.fabricmc.loader.api.FabricLoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mockStatic;
+
+public class ConcurrencyStressTest {
+
+    private static final String MOD_ID = "stress";
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 50;
+
+    private static Entry<Integer> getEntry(Config config, String id) {
+        return (Entry<Integer>) config.getEntries().stream().filter(entry -> entry.getId().equals(id)).findFirst().orElseThrow();
+    }
+
+    /**
+     * Runs the task on multiple threads at once, passing the index of the thread.
+     */
+    private static void runConcurrently(IntConsumer task) throws Exception {
+        FabricLoader loader = FabricLoader.getInstance();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    // Static mocks are only active on the thread which created them
+                    try (var mockedLoader = mockStatic(FabricLoader.class)) {
+                        mockedLoader.when(FabricLoader::getInstance).thenReturn(loader);
+                        start.await();
+                        task.accept(thread);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void load_registerConfigsConcurrently() throws Exception {
+        Collection<Config> configs = new ConcurrentLinkedQueue<>();
+        runConcurrently(thread -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"load", "thread" + thread, "config" + i}), new BatchListener());
+                config.load();
+                configs.add(config);
+            }
+        });
+        assertEquals(THREADS * ITERATIONS, configs.size());
+        for (Config config : configs) {
+            assertEquals(2, config.getEntries().size());
+        }
+        assertFalse(ConfigRegistry.getMainConfigs().containsKey(MOD_ID));
+    }
+
+    @Test
+    public void resolve_detectDuplicateContainerOnce() throws Exception {
+        var container = new BatchListener();
+        AtomicInteger resolved = new AtomicInteger();
+        runConcurrently(thread -> {
+            var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"duplicate", "thread" + thread}), container);
+            try {
+                config.load();
+                resolved.incrementAndGet();
+            } catch (RuntimeException ignore) {
+            }
+        });
+        assertEquals(1, resolved.get());
+    }
+
+    @Test
+    public void setValue_publishLatestValue() throws Exception {
+        var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"setValue"}), new BatchListener());
+        config.load();
+        Entry<Integer> first = getEntry(config, "first"), second = getEntry(config, "second");
+        config.getSnapshot();
+        runConcurrently(thread -> {
+            for (int i = 0; i < ITERATIONS * 20; i++) {
+                first.setValue(thread * ITERATIONS * 20 + i);
+                second.setValue(first.getValue());
+                config.getSnapshot().get(second);
+            }
+        });
+        ConfigSnapshot snapshot = config.getSnapshot();
+        assertEquals(first.getValue(), snapshot.get(first));
+        assertEquals(second.getValue(), snapshot.get(second));
+    }
+
+    @Test
+    public void transaction_isolateOtherThreads() throws Exception {
+        var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"transaction"}), new BatchListener());
+        config.load();
+        Entry<Integer> first = getEntry(config, "first"), second = getEntry(config, "second");
+        config.getSnapshot();
+        List<ChangeSet> changeSets = new CopyOnWriteArrayList<>();
+        config.addListener(changeSets::add);
+        CountDownLatch changed = new CountDownLatch(1), setByOther = new CountDownLatch(1);
+        runConcurrently(thread -> {
+            try {
+                if (thread == 0) {
+                    assertThrows(IllegalStateException.class, () -> config.transaction(() -> {
+                        first.setValue(1);
+                        changed.countDown();
+                        try {
+                            assertTrue(setByOther.await(1, TimeUnit.MINUTES));
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                        throw new IllegalStateException();
+                    }));
+                } else if (thread == 1) {
+                    assertTrue(changed.await(1, TimeUnit.MINUTES));
+                    second.setValue(2);
+                    setByOther.countDown();
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertEquals(0, first.getValue());
+        assertEquals(2, second.getValue());
+        ConfigSnapshot snapshot = config.getSnapshot();
+        assertEquals(0, snapshot.get(first));
+        assertEquals(2, snapshot.get(second));
+        assertEquals(1, changeSets.size());
+        assertEquals(1, changeSets.get(0).getChanges().size());
+        assertSame(second, changeSets.get(0).getChanges().get(0).entry());
+    }
+
+}
@@ -0,0 +1,63 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.data.format.ConfigFormat;
+import me.lortseam.completeconfig.test.data.listeners.BatchListener;
+import net.fabricmc.loader.api.FabricLoader;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigCacheTest {
+
+    private static final byte[] CONTENT = "content".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CHANGED_CONTENT = "changed content".getBytes(StandardCharsets.UTF_8);
+
+    private final Path directory = FabricLoader.getInstance().getConfigDir().resolve("cache");
+
+    private static CommentedConfigurationNode createNode() {
+        var node = CommentedConfigurationNode.root();
+        node.node("group", "value").raw(5);
+        node.node("list").appendListNode().raw("element");
+        return node;
+    }
+
+    @Test
+    public void read_restoreUnchangedFile() throws IOException {
+        Path file = directory.resolve("unchanged.conf");
+        SaveScheduler.writeAtomically(file, CONTENT);
+        var cache = new ConfigCache(file, directory.resolve("unchanged.bin"));
+        cache.write(createNode(), SaveScheduler.hash(CONTENT));
+        var node = cache.read(SaveScheduler.hash(CONTENT), ConfigurationOptions.defaults());
+        assertNotNull(node);
+        assertEquals(5, node.node("group", "value").getInt());
+        assertEquals(List.of("element"), node.node("list").getList(String.class));
+    }
+
+    @Test
+    public void read_ignoreChangedFile() throws IOException {
+        Path file = directory.resolve("changed.conf");
+        SaveScheduler.writeAtomically(file, CONTENT);
+        var cache = new ConfigCache(file, directory.resolve("changed.bin"));
+        cache.write(createNode(), SaveScheduler.hash(CONTENT));
+        SaveScheduler.writeAtomically(file, CHANGED_CONTENT);
+        assertNull(cache.read(SaveScheduler.hash(CHANGED_CONTENT), ConfigurationOptions.defaults()));
+    }
+
+    @Test
+    public void load_skipCacheOfBinaryFormat() {
+        var options = ConfigOptions.mod("cache").branch(new String[]{"binary"}).format(ConfigFormat.BINARY);
+        var config = new Config(options, new BatchListener());
+        config.load();
+        assertTrue(Files.exists(config.getFilePath()));
+        assertFalse(Files.exists(options.build().getCachePath()));
+    }
+
+}
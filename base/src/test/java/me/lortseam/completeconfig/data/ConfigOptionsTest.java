@@ -0,0 +1,19 @@
+package me.lortseam.completeconfig.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ConfigOptionsTest {
+
+    @Test
+    public void getNodeOptions_reuseUntilInvalidated() {
+        var options = ConfigOptions.mod("test").build();
+        var nodeOptions = options.getNodeOptions();
+        assertSame(nodeOptions, options.getNodeOptions());
+        ConfigRegistry.invalidateSerializers();
+        assertNotSame(nodeOptions, options.getNodeOptions());
+    }
+
+}
@@ -0,0 +1,51 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.data.listeners.RecordingListener;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConfigRegistryTest {
+
+    private static final String MOD_ID = "registry";
+    private static final int CONFIGS = 8;
+
+    @Test
+    public void loadAll_runCallbacksInOrderOnCallingThread() throws Exception {
+        List<String> updates = new ArrayList<>();
+        List<RecordingListener> listeners = new ArrayList<>();
+        List<Config> configs = new ArrayList<>();
+        List<String> expectedUpdates = new ArrayList<>();
+        for (int i = 0; i < CONFIGS; i++) {
+            var listener = new RecordingListener("config" + i, updates);
+            listeners.add(listener);
+            var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"loadAll", "config" + i}), listener);
+            SaveScheduler.writeAtomically(config.getFilePath(), "value=5".getBytes(StandardCharsets.UTF_8));
+            configs.add(config);
+            expectedUpdates.add("config" + i);
+        }
+        // Resolving revises every config first, applying the files updates them again
+        expectedUpdates.addAll(new ArrayList<>(expectedUpdates));
+
+        var futures = ConfigRegistry.loadAll(configs);
+        assertEquals(CONFIGS, futures.size());
+        for (int i = 0; i < CONFIGS; i++) {
+            assertTrue(futures.get(i).isDone());
+            Config config = futures.get(i).join();
+            assertSame(configs.get(i), config);
+            assertEquals(5, config.find("value").orElseThrow().getValue());
+        }
+        assertEquals(expectedUpdates, updates);
+        for (RecordingListener listener : listeners) {
+            assertEquals(Set.of(Thread.currentThread()), listener.getThreads());
+        }
+    }
+
+}
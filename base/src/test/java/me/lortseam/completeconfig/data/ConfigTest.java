@@ -1,18 +1,94 @@
 package me.lortseam.completeconfig.data;
 
+import me.lortseam.completeconfig.test.data.containers.ContainerWithEntry;
+import me.lortseam.completeconfig.test.data.listeners.BatchListener;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ConfigTest {
 
     private static final String MOD_ID = "test";
 
+    private static Entry<Integer> getEntry(Config config, String id) {
+        return (Entry<Integer>) config.getEntries().stream().filter(entry -> entry.getId().equals(id)).findFirst().orElseThrow();
+    }
+
     @Test
     public void _throwExceptionIfArgNull() {
         NullPointerException exception = assertThrows(NullPointerException.class, () -> new Config((ConfigOptions.Builder) null));
         assertEquals("optionsBuilder is marked non-null but is null", exception.getMessage());
     }
 
+    @Test
+    public void find_returnEntryByPathAndField() throws NoSuchFieldException {
+        var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"find"}), new BatchListener());
+        config.load();
+        Entry<Integer> first = getEntry(config, "first");
+        assertSame(first, config.find("first").orElseThrow());
+        assertSame(first, config.entryOf(BatchListener.class.getDeclaredField("first")).orElseThrow());
+        assertTrue(config.find("group.first").isEmpty());
+    }
+
+    @Test
+    public void transaction_notifyOnce() {
+        var listener = new BatchListener();
+        var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"transaction"}), listener);
+        config.load();
+        Entry<Integer> first = getEntry(config, "first"), second = getEntry(config, "second");
+        List<ChangeSet> changeSets = new ArrayList<>();
+        config.addListener(changeSets::add);
+        config.transaction(() -> {
+            first.setValue(1);
+            second.setValue(2);
+            first.setValue(3);
+        });
+        assertEquals(1, listener.getCalls());
+        assertEquals(1, changeSets.size());
+        assertEquals(2, changeSets.get(0).getChanges().size());
+        assertEquals(new ChangeSet.Change<>(first, 0, 3), changeSets.get(0).get(first).orElseThrow());
+    }
+
+    @Test
+    public void transaction_rollBackOnException() {
+        var listener = new BatchListener();
+        var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"rollback"}), listener);
+        config.load();
+        Entry<Integer> first = getEntry(config, "first");
+        assertThrows(IllegalStateException.class, () -> config.transaction(() -> {
+            first.setValue(5);
+            throw new IllegalStateException();
+        }));
+        assertEquals(0, first.getValue());
+        assertEquals(0, listener.getCalls());
+    }
+
+    @Test
+    public void getSnapshot_publishCommittedChanges() {
+        var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"snapshot"}), new BatchListener(), new ContainerWithEntry());
+        config.load();
+        Entry<Integer> first = getEntry(config, "first"), second = getEntry(config, "second");
+        BooleanEntry bool = (BooleanEntry) config.find("cweEntry").orElseThrow();
+        ConfigSnapshot initial = config.getSnapshot();
+        config.transaction(() -> {
+            first.setValue(1);
+            second.setValue(2);
+            assertSame(initial, config.getSnapshot());
+        });
+        ConfigSnapshot committed = config.getSnapshot();
+        assertEquals(0, initial.get(first));
+        assertEquals(1, committed.get(first));
+        assertEquals(2, committed.get(second));
+        bool.setBoolean(true);
+        assertFalse(initial.get(bool));
+        assertTrue(config.getSnapshot().get(bool));
+    }
+
 }
@@ -0,0 +1,66 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.FabricLoaderMock;
+import me.lortseam.completeconfig.test.data.listeners.BatchListener;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigWatcherTest {
+
+    private static final String MOD_ID = "watcher";
+
+    private static Entry<Integer> getEntry(Config config, String id) {
+        return (Entry<Integer>) config.find(id).orElseThrow();
+    }
+
+    @Test
+    public void reload_applyExternalChanges() throws Exception {
+        Semaphore reloads = new Semaphore(0);
+        var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"reload"}).hotReload(command -> {
+            // Reloads run on the watcher thread
+            FabricLoaderMock.install();
+            command.run();
+            reloads.release();
+        }), new BatchListener());
+        config.load();
+        Entry<Integer> first = getEntry(config, "first"), second = getEntry(config, "second");
+        List<ChangeSet> changeSets = new CopyOnWriteArrayList<>();
+        config.addListener(changeSets::add);
+        try {
+            first.setValue(1);
+            config.save();
+            // Reloading the file written by the config itself must not change anything
+            config.reload();
+            assertEquals(1, changeSets.size());
+
+            Path path = config.getFilePath();
+            Files.writeString(path, "first=1\nsecond=2\n", StandardCharsets.UTF_8);
+            // Polling watch services only notice a change if the modification time differs
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now().plusSeconds(60)));
+            long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+            while (second.getValue() != 2) {
+                assertTrue(reloads.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS), "Config was not reloaded");
+            }
+            assertEquals(1, first.getValue());
+            // Only the entry which differs from the file was updated, the save before did not cause another update
+            assertEquals(2, changeSets.size());
+            ChangeSet changeSet = changeSets.get(1);
+            assertEquals(1, changeSet.getChanges().size());
+            assertEquals(new ChangeSet.Change<>(second, 0, 2), changeSet.get(second).orElseThrow());
+        } finally {
+            config.stopHotReload();
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.processor.ContainerMetadataProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compiles fixture containers with and without the annotation processor and checks that resolving them from the
+ * generated metadata yields the same entries as resolving them via reflection.
+ */
+public class ContainerMetadataTest {
+
+    private static final String MOD_ID = "metadata";
+    private static final String CONTAINER = "fixtures.Container";
+    private static final Map<String, String> SOURCES = Map.of(CONTAINER, """
+            package fixtures;
+
+            import me.lortseam.completeconfig.api.ConfigContainer;
+            import me.lortseam.completeconfig.api.ConfigEntry;
+
+            public class Container implements ConfigContainer {
+
+                private static final int CONSTANT = 1;
+
+                @ConfigEntry
+                private int first;
+                private int ignored;
+                @ConfigEntry
+                private boolean second;
+                @Transitive
+                private final Included included = new Included();
+                @ConfigEntry
+                private String third = "";
+
+                @Transitive
+                public static class NestedFirst implements ConfigContainer {
+
+                    @ConfigEntry
+                    private int nestedFirst;
+
+                }
+
+                @Transitive
+                private static class NestedSecond implements ConfigContainer {
+
+                    @ConfigEntry
+                    private int nestedSecond;
+
+                }
+
+            }
+            """, "fixtures.Included", """
+            package fixtures;
+
+            import me.lortseam.completeconfig.api.ConfigContainer;
+            import me.lortseam.completeconfig.api.ConfigEntries;
+
+            @ConfigEntries(includeAll = true)
+            public class Included implements ConfigContainer {
+
+                private static final String CONSTANT = "constant";
+
+                private int included;
+                @ConfigEntries.Exclude
+                private int excluded;
+                private transient int skipped;
+                private String alsoIncluded = "";
+
+            }
+            """);
+
+    @TempDir
+    Path directory;
+
+    private static Path getLocation(Class<?> clazz) {
+        try {
+            return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<Path> getClassPath() {
+        return Stream.concat(Stream.of(getLocation(ConfigContainer.class)), Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator)).filter(path -> !path.isEmpty()).map(Path::of)).distinct().toList();
+    }
+
+    /**
+     * Compiles the sources into a new directory and returns the diagnostics if the compilation failed.
+     */
+    private static Optional<String> compile(Path directory, Map<String, String> sources, boolean process) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<Path> sourceFiles = new ArrayList<>();
+            for (var source : sources.entrySet()) {
+                Path file = directory.resolve("src").resolve(source.getKey().replace('.', '/') + ".java");
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, source.getValue());
+                sourceFiles.add(file);
+            }
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(Files.createDirectories(directory.resolve("classes"))));
+            fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(Files.createDirectories(directory.resolve("generated"))));
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_PATH, getClassPath());
+            var task = compiler.getTask(null, fileManager, diagnostics, process ? List.of() : List.of("-proc:none"), null, fileManager.getJavaFileObjectsFromPaths(sourceFiles));
+            if (process) {
+                task.setProcessors(List.of(new ContainerMetadataProcessor()));
+            }
+            if (task.call()) {
+                return Optional.empty();
+            }
+            return Optional.of(diagnostics.getDiagnostics().stream().map(diagnostic -> diagnostic.getMessage(Locale.ROOT)).collect(Collectors.joining("\n")));
+        }
+    }
+
+    private Class<? extends ConfigContainer> compileContainer(String name, boolean process) throws Exception {
+        Path output = directory.resolve(name);
+        Optional<String> errors = compile(output, SOURCES, process);
+        assertTrue(errors.isEmpty(), () -> errors.get());
+        var classLoader = new URLClassLoader(new URL[]{output.resolve("classes").toUri().toURL()}, getClass().getClassLoader());
+        return classLoader.loadClass(CONTAINER).asSubclass(ConfigContainer.class);
+    }
+
+    private static List<String> resolveEntries(Class<? extends ConfigContainer> containerClass, String branch) throws ReflectiveOperationException {
+        var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{branch}), containerClass.getConstructor().newInstance());
+        config.load();
+        return config.getEntries().stream().map(Entry::getId).toList();
+    }
+
+    @Test
+    public void resolve_matchReflection() throws Exception {
+        Class<? extends ConfigContainer> generated = compileContainer("generated", true);
+        Class<? extends ConfigContainer> reflected = compileContainer("reflected", false);
+        assertTrue(ContainerMetadataCache.get(generated).isPresent());
+        assertTrue(ContainerMetadataCache.get(reflected).isEmpty());
+
+        List<String> entries = resolveEntries(generated, "generated");
+        assertEquals(List.of("first", "second", "third", "included", "alsoIncluded", "nestedFirst", "nestedSecond"), entries);
+        assertEquals(resolveEntries(reflected, "reflected"), entries);
+    }
+
+    @Test
+    public void process_reportFinalEntryField() throws Exception {
+        Optional<String> errors = compile(directory, Map.of("fixtures.FinalEntry", """
+                package fixtures;
+
+                import me.lortseam.completeconfig.api.ConfigContainer;
+                import me.lortseam.completeconfig.api.ConfigEntry;
+
+                public class FinalEntry implements ConfigContainer {
+
+                    @ConfigEntry
+                    private final int value = 0;
+
+                }
+                """), true);
+        assertTrue(errors.orElseThrow().contains("Entry field value must not be final"));
+    }
+
+}
@@ -12,7 +12,11 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -72,6 +76,17 @@ public class EntryTest implements ConfigGroup {
     @ConfigEntry(nameKey = CUSTOM_NAME_KEY, descriptionKey = CUSTOM_DESCRIPTION_KEY)
     private boolean customKeyField;
     private Entry<?> customKeyEntry;
+    @ConfigEntry.BoundedInteger(max = 10)
+    private int revisedOnWrite = 20;
+    @ConfigEntry.BoundedInteger(min = 0, max = 10)
+    private int primitiveInt;
+    @ConfigEntry.BoundedInteger(min = 0, max = 10)
+    private int observedInt;
+    @ConfigEntry.BoundedDouble(min = 0, max = 10)
+    private double primitiveDouble;
+    @ConfigEntry.BoundedFloat(min = 0, max = 10)
+    private float boxedFloat;
+    private int plainInt;
 
     @BeforeAll
     public void beforeAll() {
@@ -102,13 +117,14 @@ public class EntryTest implements ConfigGroup {
     public void create_transformTypes() {
         assertEntryType(of("booleanWithoutAnnotation"), BooleanEntry.class);
         assertEntryType(of("booleanWithAnnotation"), BooleanEntry.class);
-        assertEntryType(of("boundedInt"), BoundedEntry.class);
+        assertEntryType(of("boundedInt"), IntEntry.class);
+        assertFalse(of("plainInt") instanceof IntEntry);
         assertEntryType(of("sliderInt"), SliderEntry.class);
-        assertEntryType(of("boundedLong"), BoundedEntry.class);
+        assertEntryType(of("boundedLong"), LongEntry.class);
         assertEntryType(of("sliderLong"), SliderEntry.class);
-        assertEntryType(of("boundedFloat"), BoundedEntry.class);
+        assertEntryType(of("boundedFloat"), FloatEntry.class);
         assertEntryType(of("sliderFloat"), SliderEntry.class);
-        assertEntryType(of("boundedDouble"), BoundedEntry.class);
+        assertEntryType(of("boundedDouble"), DoubleEntry.class);
         assertEntryType(of("sliderDouble"), SliderEntry.class);
         assertEntryType(of("anEnum"), EnumEntry.class);
         assertEntryType(of("dropdown"), DropdownEntry.class);
@@ -132,6 +148,65 @@ public class EntryTest implements ConfigGroup {
         assertEquals(COMMENT, node.comment());
     }
 
+    @Test
+    public void setInt_clampToBounds() {
+        var intEntry = (IntEntry) of("primitiveInt");
+        intEntry.setInt(20);
+        assertEquals(10, primitiveInt);
+        intEntry.setInt(-5);
+        assertEquals(0, intEntry.getInt());
+        assertEquals(0, intEntry.getValue());
+    }
+
+    @Test
+    public void setInt_notifyListeners() {
+        var intEntry = (IntEntry) of("observedInt");
+        List<Integer> values = new ArrayList<>();
+        intEntry.addListener((oldValue, newValue) -> {
+            values.add(oldValue);
+            values.add(newValue);
+        });
+        intEntry.setInt(5);
+        intEntry.setInt(5);
+        intEntry.setValue(20);
+        assertEquals(List.of(0, 5, 5, 10), values);
+    }
+
+    @Test
+    public void setDouble_keepNegativeZeroWithinBounds() {
+        var doubleEntry = (DoubleEntry) of("primitiveDouble");
+        doubleEntry.setDouble(-0.0);
+        assertEquals(-0.0, primitiveDouble);
+        doubleEntry.setDouble(-1);
+        assertEquals(0.0, doubleEntry.getDouble());
+        doubleEntry.setDouble(Double.NaN);
+        assertEquals(10.0, doubleEntry.getDouble());
+    }
+
+    @Test
+    public void setValue_keepNegativeZeroWithinBounds() {
+        var floatEntry = (Entry<Float>) of("boxedFloat");
+        floatEntry.setValue(-0.0f);
+        assertEquals(-0.0f, boxedFloat);
+        floatEntry.setValue(Float.NaN);
+        assertEquals(10.0f, floatEntry.getValue());
+    }
+
+    @Test
+    public void getValue_reviseOnWriteOnly() throws NoSuchFieldException {
+        var writeConfig = mock(Config.class);
+        var registry = new ConfigRegistry();
+        when(writeConfig.getRegistry()).thenReturn(registry);
+        when(writeConfig.getRevisionMode()).thenReturn(RevisionMode.WRITE);
+        var writeEntry = (Entry<Integer>) Entry.create(new EntryOrigin(writeConfig, parent, getClass().getDeclaredField("revisedOnWrite"), this));
+        assertEquals(10, writeEntry.getDefaultValue());
+        revisedOnWrite = 20;
+        assertEquals(20, writeEntry.getValue());
+        writeEntry.revalidate();
+        assertEquals(10, writeEntry.getValue());
+        assertEquals(10, revisedOnWrite);
+    }
+
     @Test
     @EnabledIfSystemProperty(named = "fabric.dli.env", matches = "client")
     public void create_transformClientProperties() {
@@ -0,0 +1,122 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.data.listeners.BatchListener;
+import net.fabricmc.loader.api.FabricLoader;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SaveSchedulerTest {
+
+    private static final String MOD_ID = "test";
+
+    private final Path directory = FabricLoader.getInstance().getConfigDir().resolve("scheduler");
+
+    private static CommentedConfigurationNode createNode(String content) {
+        return CommentedConfigurationNode.root().raw(content);
+    }
+
+    private static String readContent(Path path) throws IOException {
+        return Files.readString(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a config mock which renders nodes to their string value.
+     */
+    private Config mockConfig(String fileName, Duration saveDelay) throws IOException {
+        Config config = mock(Config.class);
+        when(config.getFilePath()).thenReturn(directory.resolve(fileName));
+        when(config.getSaveDelay()).thenReturn(saveDelay);
+        when(config.render(any())).thenAnswer(invocation -> {
+            return invocation.getArgument(0, CommentedConfigurationNode.class).getString().getBytes(StandardCharsets.UTF_8);
+        });
+        return config;
+    }
+
+    @Test
+    public void schedule_coalesceWrites() throws Exception {
+        Config config = mockConfig("coalesce.conf", Duration.ofMillis(200));
+        var scheduler = new SaveScheduler(config);
+        Set<CompletableFuture<Void>> futures = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(scheduler.schedule(createNode("value" + i)));
+        }
+        assertEquals(1, futures.size());
+        futures.iterator().next().get(1, TimeUnit.MINUTES);
+        verify(config, times(1)).writeCache(any(), any());
+        assertEquals("value9", readContent(config.getFilePath()));
+    }
+
+    @Test
+    public void write_dropStaleWrite() throws Exception {
+        Config config = mockConfig("stale.conf", Duration.ZERO);
+        CountDownLatch rendering = new CountDownLatch(1), release = new CountDownLatch(1);
+        var staleNode = createNode("stale");
+        when(config.render(staleNode)).thenAnswer(invocation -> {
+            rendering.countDown();
+            release.await();
+            return "stale".getBytes(StandardCharsets.UTF_8);
+        });
+        var scheduler = new SaveScheduler(config);
+        var future = scheduler.schedule(staleNode);
+        assertTrue(rendering.await(1, TimeUnit.MINUTES));
+        scheduler.saveNow(createNode("current"));
+        release.countDown();
+        future.get(1, TimeUnit.MINUTES);
+        verify(config, times(1)).writeCache(any(), any());
+        assertEquals("current", readContent(config.getFilePath()));
+    }
+
+    @Test
+    public void saveNow_supersedePendingSave() throws Exception {
+        Config config = mockConfig("supersede.conf", Duration.ofMinutes(1));
+        var scheduler = new SaveScheduler(config);
+        var future = scheduler.schedule(createNode("scheduled"));
+        scheduler.saveNow(createNode("now"));
+        assertTrue(future.isDone());
+        verify(config, times(1)).writeCache(any(), any());
+        assertEquals("now", readContent(config.getFilePath()));
+    }
+
+    @Test
+    public void saveAsync_completeAfterWrite() throws Exception {
+        var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"saveAsync"}).saveDelay(Duration.ofMillis(10)), new BatchListener());
+        config.load();
+        var entry = (Entry<Integer>) config.find("first").orElseThrow();
+        entry.setValue(42);
+        config.saveAsync().get(1, TimeUnit.MINUTES);
+        assertTrue(readContent(config.getFilePath()).contains("42"));
+    }
+
+    @Test
+    public void save_skipUnchangedContent() throws Exception {
+        var config = new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"unchanged"}), new BatchListener());
+        config.load();
+        Path path = config.getFilePath();
+        // Writing the file replaces it, so a rewrite would reset the modification time
+        FileTime modified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(path, modified);
+        config.load();
+        config.save();
+        assertEquals(modified, Files.getLastModifiedTime(path));
+        ((Entry<Integer>) config.find("first").orElseThrow()).setValue(42);
+        config.save();
+        assertNotEquals(modified, Files.getLastModifiedTime(path));
+        assertTrue(readContent(path).contains("42"));
+    }
+
+}
@@ -0,0 +1,123 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.test.data.generator.ConfigGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that resolving, applying, fetching and saving stay linear. Each operation is measured on a small and a large
+ * config, where the large one has either {@value #GROWTH} times as many entries or the same entries nested
+ * {@value #GROWTH} times as deep. Linear operations take about {@value #GROWTH} times as long for the large config,
+ * quadratic ones about {@value #GROWTH} squared times; the allowed ratio in between leaves headroom for timing noise.
+ *
+ * <p>Since timings depend on the load of the machine, the measuring tests are tagged {@value #PERFORMANCE} and only run
+ * if the build is invoked with {@code -Pperformance}.
+ */
+public class ScalingTest {
+
+    private static final String MOD_ID = "scaling";
+    private static final String PERFORMANCE = "performance";
+    private static final int GROWTH = 8;
+    private static final double MAX_RATIO = GROWTH * 3;
+    private static final int RUNS = 3;
+    private static final int CHAINS = GROWTH, DEPTH = 16;
+
+    private static int counter;
+
+    private record LoadedConfig(Config config, CommentedConfigurationNode node) {}
+
+    private static Config createConfig(ConfigContainer container) {
+        return new Config(ConfigOptions.mod(MOD_ID).branch(new String[]{"config" + counter++}), container);
+    }
+
+    private static Config loadConfig(ConfigContainer container) {
+        Config config = createConfig(container);
+        config.load();
+        return config;
+    }
+
+    private static CommentedConfigurationNode fetch(Config config) {
+        CommentedConfigurationNode node = CommentedConfigurationNode.root();
+        config.fetch(node);
+        return node;
+    }
+
+    /**
+     * Measures the fastest of multiple runs, which is the least affected by garbage collection and compilation. Every
+     * run gets a new container, since containers can only be resolved once.
+     */
+    private static <T> long measure(Supplier<ConfigContainer> container, Function<ConfigContainer, T> setup, Consumer<T> operation) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            T input = setup.apply(container.get());
+            long start = System.nanoTime();
+            operation.accept(input);
+            min = Math.min(min, System.nanoTime() - start);
+        }
+        return min;
+    }
+
+    private static <T> void assertLinear(Supplier<ConfigContainer> smallContainer, Supplier<ConfigContainer> largeContainer, Function<ConfigContainer, T> setup, Consumer<T> operation) {
+        // Warm up with the small config, so that its measurement does not run in the interpreter
+        measure(smallContainer, setup, operation);
+        long small = measure(smallContainer, setup, operation);
+        long large = measure(largeContainer, setup, operation);
+        double ratio = (double) large / Math.max(1, small);
+        assertTrue(ratio < MAX_RATIO, "Growing the config by " + GROWTH + " times slowed it down by " + ratio + " times");
+    }
+
+    private static <T> void assertLinear(Function<ConfigContainer, T> setup, Consumer<T> operation) {
+        Supplier<ConfigContainer> small = () -> ConfigGenerator.chains(CHAINS, DEPTH);
+        assertLinear(small, () -> ConfigGenerator.chains(CHAINS * GROWTH, DEPTH), setup, operation);
+        assertLinear(small, () -> ConfigGenerator.chains(CHAINS / GROWTH, DEPTH * GROWTH), setup, operation);
+    }
+
+    @Test
+    public void tree_generateNestedGroupsWithTransitiveEntries() {
+        Config config = loadConfig(ConfigGenerator.tree(3, 2));
+        assertEquals(ConfigGenerator.countEntries(3, 2), config.getEntryCount());
+        assertTrue(config.find("group1.group0.group1.plainInt").isPresent());
+        assertTrue(config.find("group1.group0.group1.transitiveInt").isPresent());
+    }
+
+    @Test
+    @Tag(PERFORMANCE)
+    public void resolve_scaleLinearly() {
+        assertLinear(ScalingTest::createConfig, Config::read);
+    }
+
+    @Test
+    @Tag(PERFORMANCE)
+    public void apply_scaleLinearly() {
+        assertLinear(container -> {
+            Config config = loadConfig(container);
+            return new LoadedConfig(config, fetch(config));
+        }, loaded -> loaded.config().apply(loaded.node()));
+    }
+
+    @Test
+    @Tag(PERFORMANCE)
+    public void fetch_scaleLinearly() {
+        assertLinear(ScalingTest::loadConfig, ScalingTest::fetch);
+    }
+
+    @Test
+    @Tag(PERFORMANCE)
+    public void save_scaleLinearly() {
+        assertLinear(ScalingTest::loadConfig, config -> {
+            // Saving only writes the file if a value changed
+            ((Entry<Integer>) config.find("group0.plainInt").orElseThrow()).setValue(1);
+            config.save();
+        });
+    }
+
+}
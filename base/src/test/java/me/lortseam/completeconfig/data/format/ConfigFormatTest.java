@@ -0,0 +1,43 @@
+package me.lortseam.completeconfig.data.format;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConfigFormatTest {
+
+    private static void assertRoundTrip(ConfigFormat format) throws IOException {
+        ConfigurationOptions options = format.adaptOptions(ConfigurationOptions.defaults());
+        var node = CommentedConfigurationNode.root(options);
+        node.node("group", "int").set(5);
+        node.node("group", "double").set(0.5);
+        node.node("string").set("value");
+        node.node("list").setList(Integer.class, List.of(1, 2, 3));
+        var readNode = format.read(format.write(node), options);
+        assertEquals(5, readNode.node("group", "int").getInt());
+        assertEquals(0.5, readNode.node("group", "double").getDouble());
+        assertEquals("value", readNode.node("string").getString());
+        assertEquals(List.of(1, 2, 3), readNode.node("list").getList(Integer.class));
+    }
+
+    @Test
+    public void hocon_roundTrip() throws IOException {
+        assertRoundTrip(ConfigFormat.HOCON);
+    }
+
+    @Test
+    public void json_roundTrip() throws IOException {
+        assertRoundTrip(ConfigFormat.JSON);
+    }
+
+    @Test
+    public void binary_roundTrip() throws IOException {
+        assertRoundTrip(ConfigFormat.BINARY);
+    }
+
+}
@@ -0,0 +1,68 @@
+package me.lortseam.completeconfig.data.transform;
+
+import me.lortseam.completeconfig.api.ConfigEntry;
+import me.lortseam.completeconfig.data.EntryOrigin;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TransformationIndexTest {
+
+    private int firstInt;
+    private int secondInt;
+    @ConfigEntry.Slider
+    private int sliderInt;
+    private String text;
+    private long number;
+
+    private static Transformation createTransformation(Transformation.Filter filter) {
+        return new Transformation(filter, origin -> null);
+    }
+
+    private EntryOrigin originOf(String fieldName) throws NoSuchFieldException {
+        var field = getClass().getDeclaredField(fieldName);
+        EntryOrigin origin = mock(EntryOrigin.class);
+        when(origin.getField()).thenReturn(field);
+        when(origin.getType()).thenReturn(field.getGenericType());
+        return origin;
+    }
+
+    @Test
+    public void find_memoizePerTypeAndAnnotations() throws Exception {
+        AtomicInteger tests = new AtomicInteger();
+        var transformation = createTransformation(Transformation.filter().byType(type -> {
+            tests.incrementAndGet();
+            return type == int.class;
+        }).byAnnotation(ConfigEntry.Slider.class, true));
+        var index = new TransformationIndex(List.of(transformation));
+        assertEquals(Optional.of(transformation), index.find(originOf("firstInt")));
+        assertEquals(Optional.of(transformation), index.find(originOf("secondInt")));
+        assertEquals(1, tests.get());
+        // A different annotation signature is resolved separately
+        assertEquals(Optional.of(transformation), index.find(originOf("sliderInt")));
+        assertEquals(2, tests.get());
+        // Fields without a match are memoized as well
+        assertEquals(Optional.empty(), index.find(originOf("text")));
+        assertEquals(Optional.empty(), index.find(originOf("text")));
+        assertEquals(3, tests.get());
+    }
+
+    @Test
+    public void find_fallBackToUntypedTransformations() throws Exception {
+        var untyped = createTransformation(Transformation.filter().byType(type -> type != long.class));
+        var typed = createTransformation(Transformation.filter().byType(int.class, long.class));
+        var index = new TransformationIndex(List.of(untyped, typed));
+        // Types without a bucket are only tested against untyped transformations
+        assertEquals(Optional.of(untyped), index.find(originOf("text")));
+        // Buckets keep the order of precedence across typed and untyped transformations
+        assertEquals(Optional.of(untyped), index.find(originOf("firstInt")));
+        assertEquals(Optional.of(typed), index.find(originOf("number")));
+    }
+
+}
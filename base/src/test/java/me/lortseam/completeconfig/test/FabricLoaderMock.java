@@ -0,0 +1,65 @@
+package me.lortseam.completeconfig.test;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.google.common.jimfs.WatchServiceConfiguration;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.ModContainer;
+import net.fabricmc.loader.api.metadata.ModMetadata;
+import org.mockito.MockedStatic;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Mocks the Fabric loader with an in-memory config directory. The environment is read from the
+ * {@code fabric.dli.env} system property. Used by the tests and the benchmarks, so it must not depend on JUnit.
+ */
+public final class FabricLoaderMock {
+
+    private static final FabricLoader loader = createLoader();
+    // Static mocks are only active on the thread which created them
+    private static final ThreadLocal<MockedStatic<FabricLoader>> mockedLoaders = ThreadLocal.withInitial(() -> {
+        MockedStatic<FabricLoader> mockedLoader = mockStatic(FabricLoader.class);
+        mockedLoader.when(FabricLoader::getInstance).thenReturn(loader);
+        return mockedLoader;
+    });
+
+    private FabricLoaderMock() {}
+
+    private static FabricLoader createLoader() {
+        EnvType env = switch (System.getProperty("fabric.dli.env")) {
+            case "client" -> EnvType.CLIENT;
+            case "server" -> EnvType.SERVER;
+            default -> throw new IllegalArgumentException("Unknown environment property");
+        };
+        FabricLoader loader = mock(FabricLoader.class);
+        when(loader.getEnvironmentType()).thenReturn(env);
+        when(loader.isModLoaded(anyString())).thenReturn(true);
+        when(loader.getModContainer(anyString())).thenAnswer(invocation -> {
+            ModMetadata metadata = mock(ModMetadata.class);
+            when(metadata.getId()).thenReturn(invocation.getArgument(0, String.class));
+            ModContainer mod = mock(ModContainer.class);
+            when(mod.getMetadata()).thenReturn(metadata);
+            return Optional.of(mod);
+        });
+        // Poll often, so that tests of hot reload do not have to wait for long
+        Configuration configuration = Configuration.forCurrentPlatform().toBuilder()
+                .setWatchServiceConfiguration(WatchServiceConfiguration.polling(10, TimeUnit.MILLISECONDS))
+                .build();
+        when(loader.getConfigDir()).thenReturn(Jimfs.newFileSystem(configuration).getPath(""));
+        return loader;
+    }
+
+    /**
+     * Makes {@link FabricLoader#getInstance()} return the mocked loader on the current thread. Does nothing if the
+     * loader is already mocked on this thread.
+     */
+    public static void install() {
+        mockedLoaders.get();
+    }
+
+}
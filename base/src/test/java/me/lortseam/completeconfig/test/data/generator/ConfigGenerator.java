@@ -0,0 +1,88 @@
+package me.lortseam.completeconfig.test.data.generator;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates large containers at runtime. Since a class cannot declare arbitrarily many fields, entries are spread over
+ * instances of {@link SyntheticGroup}.
+ */
+public final class ConfigGenerator {
+
+    static final int ENTRIES_PER_GROUP = 10;
+    /**
+     * The number of entries of every group of a {@linkplain #tree(int, int) tree}, including its transitive entries.
+     */
+    public static final int ENTRIES_PER_NESTED_GROUP = ENTRIES_PER_GROUP + 2;
+
+    private ConfigGenerator() {}
+
+    /**
+     * Generates a container whose entries are spread over groups next to each other.
+     *
+     * @param entryCount the minimum number of entries, which is rounded up to whole groups
+     * @return the container
+     */
+    public static ConfigContainer wide(int entryCount) {
+        int groupCount = Math.max(1, (entryCount + ENTRIES_PER_GROUP - 1) / ENTRIES_PER_GROUP);
+        List<ConfigContainer> groups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            groups.add(new SyntheticGroup("group" + i));
+        }
+        return new SyntheticContainer(groups);
+    }
+
+    /**
+     * Generates a container with a tree of nested groups. Every group has {@value #ENTRIES_PER_NESTED_GROUP} entries,
+     * some of which are declared by a transitive field. The groups of each level are named {@code group0},
+     * {@code group1} and so on, so that for example {@code group0.group1.plainInt} is the path of an entry on the
+     * second level.
+     *
+     * @param depth the number of group levels
+     * @param width the number of groups per parent
+     * @return the container
+     */
+    public static ConfigContainer tree(int depth, int width) {
+        return new SyntheticContainer(createGroups(depth, width));
+    }
+
+    /**
+     * Generates a container with chains of nested groups next to each other. Every group has only a single child group,
+     * so that configs with the same number of entries can be generated at different depths.
+     *
+     * @param count the number of chains
+     * @param depth the number of groups per chain
+     * @return the container
+     */
+    public static ConfigContainer chains(int count, int depth) {
+        List<ConfigContainer> chains = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            chains.add(new NestedGroup("group" + i, createGroups(depth - 1, 1)));
+        }
+        return new SyntheticContainer(chains);
+    }
+
+    private static List<ConfigContainer> createGroups(int depth, int width) {
+        List<ConfigContainer> groups = new ArrayList<>(width);
+        if (depth == 0) return groups;
+        for (int i = 0; i < width; i++) {
+            groups.add(new NestedGroup("group" + i, createGroups(depth - 1, width)));
+        }
+        return groups;
+    }
+
+    /**
+     * Calculates the number of entries of a generated {@linkplain #tree(int, int) tree}.
+     */
+    public static int countEntries(int depth, int width) {
+        int groups = 0, levelGroups = 1;
+        for (int level = 0; level < depth; level++) {
+            levelGroups *= width;
+            groups += levelGroups;
+        }
+        return groups * ENTRIES_PER_NESTED_GROUP;
+    }
+
+}
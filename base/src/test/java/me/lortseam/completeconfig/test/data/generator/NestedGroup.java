@@ -0,0 +1,27 @@
+package me.lortseam.completeconfig.test.data.generator;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+
+import java.util.Collection;
+
+/**
+ * A generated group which nests further groups. Its entries are extended by a transitive field, so that generated
+ * trees also exercise transitive resolution.
+ */
+public class NestedGroup extends SyntheticGroup {
+
+    @Transitive
+    private final TransitiveEntries transitiveEntries = new TransitiveEntries();
+    private final Collection<ConfigContainer> children;
+
+    public NestedGroup(String id, Collection<ConfigContainer> children) {
+        super(id);
+        this.children = children;
+    }
+
+    @Override
+    public Collection<ConfigContainer> getTransitives() {
+        return children;
+    }
+
+}
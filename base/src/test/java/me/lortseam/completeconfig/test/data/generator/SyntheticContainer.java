@@ -0,0 +1,21 @@
+package me.lortseam.completeconfig.test.data.generator;
+
+import lombok.RequiredArgsConstructor;
+import me.lortseam.completeconfig.api.ConfigContainer;
+
+import java.util.Collection;
+
+/**
+ * A container which registers generated containers as transitives.
+ */
+@RequiredArgsConstructor
+public class SyntheticContainer implements ConfigContainer {
+
+    private final Collection<ConfigContainer> transitives;
+
+    @Override
+    public Collection<ConfigContainer> getTransitives() {
+        return transitives;
+    }
+
+}
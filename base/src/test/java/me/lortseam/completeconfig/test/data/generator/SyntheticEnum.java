@@ -0,0 +1,5 @@
+package me.lortseam.completeconfig.test.data.generator;
+
+public enum SyntheticEnum {
+    FIRST, SECOND, THIRD
+}
@@ -0,0 +1,40 @@
+package me.lortseam.completeconfig.test.data.generator;
+
+import lombok.RequiredArgsConstructor;
+import me.lortseam.completeconfig.api.ConfigEntries;
+import me.lortseam.completeconfig.api.ConfigEntry;
+import me.lortseam.completeconfig.api.ConfigGroup;
+
+/**
+ * A group with one entry of each common kind, so that generated configs exercise the usual transformations. Has
+ * {@value ConfigGenerator#ENTRIES_PER_GROUP} entries.
+ */
+@ConfigEntries(includeAll = true)
+@RequiredArgsConstructor
+public class SyntheticGroup implements ConfigGroup {
+
+    @ConfigEntries.Exclude
+    private final String id;
+
+    private int plainInt;
+    private boolean plainBoolean;
+    private long plainLong;
+    private float plainFloat;
+    private String plainString = "value";
+    @ConfigEntry.BoundedInteger(min = 0, max = 100)
+    private int boundedInt;
+    @ConfigEntry.BoundedDouble(min = 0, max = 1)
+    private double boundedDouble;
+    @ConfigEntry.BoundedInteger(min = 0, max = 10)
+    @ConfigEntry.Slider
+    private int sliderInt;
+    private SyntheticEnum anEnum = SyntheticEnum.FIRST;
+    @ConfigEntry.Dropdown
+    private SyntheticEnum dropdown = SyntheticEnum.FIRST;
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+}
@@ -0,0 +1,13 @@
+package me.lortseam.completeconfig.test.data.generator;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.api.ConfigEntry;
+
+public class TransitiveEntries implements ConfigContainer {
+
+    @ConfigEntry
+    private int transitiveInt;
+    @ConfigEntry
+    private boolean transitiveBoolean;
+
+}
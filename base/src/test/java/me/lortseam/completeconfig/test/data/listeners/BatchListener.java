@@ -0,0 +1,23 @@
+package me.lortseam.completeconfig.test.data.listeners;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.api.ConfigEntry;
+
+public class BatchListener implements ConfigContainer {
+
+    @ConfigEntry
+    private int first;
+    @ConfigEntry
+    private int second;
+    private int calls;
+
+    @Override
+    public void onContainerEntryUpdate() {
+        calls++;
+    }
+
+    public int getCalls() {
+        return calls;
+    }
+
+}
@@ -0,0 +1,32 @@
+package me.lortseam.completeconfig.test.data.listeners;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.api.ConfigEntry;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records its name whenever one of its entries gets updated, as well as the threads the updates happened on. The
+ * default value is out of bounds, so it already gets revised when the container is resolved.
+ */
+@RequiredArgsConstructor
+public class RecordingListener implements ConfigContainer {
+
+    private final String name;
+    private final List<String> updates;
+    @Getter
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    @ConfigEntry.BoundedInteger(min = 0, max = 10)
+    private int value = 20;
+
+    @Override
+    public void onContainerEntryUpdate() {
+        updates.add(name);
+        threads.add(Thread.currentThread());
+    }
+
+}
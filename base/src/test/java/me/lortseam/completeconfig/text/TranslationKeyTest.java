@@ -0,0 +1,62 @@
+package me.lortseam.completeconfig.text;
+
+import me.lortseam.completeconfig.data.Config;
+import net.fabricmc.loader.api.metadata.ModMetadata;
+import net.minecraft.client.resource.language.I18n;
+import net.minecraft.util.Language;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class TranslationKeyTest {
+
+    private static final String MOD_ID = "translationKeyTest";
+
+    private TranslationKey root;
+
+    @BeforeEach
+    public void beforeEach() {
+        var config = mock(Config.class);
+        ModMetadata modMetadata = mock(ModMetadata.class);
+        when(modMetadata.getId()).thenReturn(MOD_ID);
+        when(config.getMod()).thenReturn(modMetadata);
+        root = new TranslationKey(config);
+    }
+
+    @Test
+    public void append_joinElements() {
+        var key = root.append("group").append("entry", "description");
+        assertEquals("config." + MOD_ID + ".group.entry.description", key.toString());
+        assertEquals(key, root.append("group", "entry", "description"));
+    }
+
+    @Test
+    public void append_sharePrefixes() {
+        var group = root.append("group");
+        assertSame(group, root.append("group"));
+        assertSame(group.append("entry"), root.append("group", "entry"));
+    }
+
+    @Test
+    public void exists_cacheUntilLanguageChanges() {
+        var key = root.append("cached");
+        var language = Language.getInstance();
+        try (var i18n = mockStatic(I18n.class)) {
+            i18n.when(() -> I18n.hasTranslation(key.toString())).thenReturn(true);
+            assertTrue(key.exists());
+            assertTrue(key.exists());
+            i18n.verify(() -> I18n.hasTranslation(key.toString()), times(1));
+
+            Language.setInstance(mock(Language.class));
+            assertTrue(key.exists());
+            i18n.verify(() -> I18n.hasTranslation(key.toString()), times(2));
+        } finally {
+            Language.setInstance(language);
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package me.lortseam.completeconfig.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NumberUtilsTest {
+
+    @Test
+    public void comparator_compareIntegralTypes() {
+        assertTrue(NumberUtils.comparator(Integer.class).compare(Integer.MIN_VALUE, Integer.MAX_VALUE) < 0);
+        assertTrue(NumberUtils.comparator(Long.class).compare(Long.MAX_VALUE, Long.MAX_VALUE - 1) > 0);
+        assertTrue(NumberUtils.comparator(Short.class).compare((short) -1, (short) 1) < 0);
+        assertEquals(0, NumberUtils.comparator(Byte.class).compare((byte) 7, (byte) 7));
+    }
+
+    @Test
+    public void comparator_treatZerosAsEqual() {
+        assertEquals(0, NumberUtils.comparator(Float.class).compare(-0.0f, 0.0f));
+        assertEquals(0, NumberUtils.comparator(Double.class).compare(-0.0, 0.0));
+    }
+
+    @Test
+    public void comparator_orderNaNAfterInfinity() {
+        Comparator<Double> comparator = NumberUtils.comparator(Double.class);
+        assertTrue(comparator.compare(Double.NaN, Double.POSITIVE_INFINITY) > 0);
+        assertTrue(comparator.compare(Double.NEGATIVE_INFINITY, Double.NaN) < 0);
+        assertEquals(0, comparator.compare(Double.NaN, Double.NaN));
+        assertTrue(NumberUtils.comparator(Float.class).compare(Float.NaN, Float.MAX_VALUE) > 0);
+    }
+
+    @Test
+    public void comparator_agreeWithCompare() {
+        Comparator<BigDecimal> comparator = NumberUtils.comparator(BigDecimal.class);
+        assertTrue(comparator.compare(new BigDecimal("0.1"), new BigDecimal("0.2")) < 0);
+        assertEquals(0, comparator.compare(new BigDecimal("1.0"), new BigDecimal("1")));
+        assertEquals(Integer.signum(NumberUtils.compare(1.5, 2)), Integer.signum(NumberUtils.comparator(Double.class).compare(1.5, 2.0)));
+    }
+
+}
@@ -0,0 +1,32 @@
+package me.lortseam.completeconfig;
+
+import me.lortseam.completeconfig.data.BenchmarkConfigs;
+import me.lortseam.completeconfig.data.Config;
+import me.lortseam.completeconfig.test.data.generator.ConfigGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first config of a fresh JVM, which includes initializing the extensions. Every measurement runs in its
+ * own fork, since the extensions are only initialized once per JVM.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Benchmark
+    public Config loadFirstConfig() {
+        return BenchmarkConfigs.load(ConfigGenerator.wide(10));
+    }
+
+    @Benchmark
+    @Fork(value = 10, jvmArgsAppend = "-Dfabric.dli.env=server")
+    public Config loadFirstConfigOnServer() {
+        return BenchmarkConfigs.load(ConfigGenerator.wide(10));
+    }
+
+}
@@ -0,0 +1,53 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.data.generator.SyntheticGroup;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the method handles of {@link EntryAccessor} with reflective field access.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccessorBenchmark {
+
+    private SyntheticGroup group;
+    private Field field;
+    private EntryAccessor accessor;
+    private int counter;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        group = new SyntheticGroup("group");
+        field = SyntheticGroup.class.getDeclaredField("plainInt");
+        field.setAccessible(true);
+        accessor = EntryAccessor.of(field, group);
+    }
+
+    @Benchmark
+    public Object getReflective() throws IllegalAccessException {
+        return field.get(group);
+    }
+
+    @Benchmark
+    public Object getAccessor() {
+        return accessor.get();
+    }
+
+    @Benchmark
+    public void setReflective() throws IllegalAccessException {
+        field.set(group, counter++);
+    }
+
+    @Benchmark
+    public void setAccessor() {
+        accessor.set(counter++);
+    }
+
+}
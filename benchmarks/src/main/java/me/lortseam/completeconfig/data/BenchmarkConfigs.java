@@ -0,0 +1,41 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.api.ConfigContainer;
+import me.lortseam.completeconfig.test.FabricLoaderMock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates configs for benchmarks. Must be called from the setup methods of benchmark states, because JMH runs them on
+ * the benchmark threads, where the Fabric loader has to be mocked.
+ */
+public final class BenchmarkConfigs {
+
+    public static final String MOD_ID = "benchmark";
+
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    private BenchmarkConfigs() {}
+
+    /**
+     * Creates a config with a unique branch.
+     */
+    public static Config create(ConfigOptions.Builder optionsBuilder, ConfigContainer... containers) {
+        FabricLoaderMock.install();
+        return new Config(optionsBuilder.branch(new String[]{"config" + counter.incrementAndGet()}), containers);
+    }
+
+    public static Config create(ConfigContainer... containers) {
+        return create(ConfigOptions.mod(MOD_ID), containers);
+    }
+
+    /**
+     * Creates and loads a config with a unique branch.
+     */
+    public static Config load(ConfigContainer... containers) {
+        Config config = create(containers);
+        config.load();
+        return config;
+    }
+
+}
@@ -0,0 +1,69 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.data.generator.ConfigGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading and saving of generated configs. Loading reads an unchanged file and therefore restores the node tree
+ * from the cache, while saving only writes the file if a value changed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4G")
+@State(Scope.Thread)
+public class ConfigBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int entryCount;
+
+    private Config config;
+    private Entry<Integer> entry;
+    private String content;
+    private int counter;
+
+    @Setup
+    public void setUp() {
+        config = BenchmarkConfigs.load(ConfigGenerator.wide(entryCount));
+        entry = (Entry<Integer>) config.find("group0.plainInt").orElseThrow();
+        StringWriter writer = new StringWriter();
+        config.serialize(() -> new BufferedWriter(writer));
+        content = writer.toString();
+    }
+
+    @Benchmark
+    public void load() {
+        config.load();
+    }
+
+    @Benchmark
+    public void save() {
+        config.save();
+    }
+
+    @Benchmark
+    public void saveChanged() {
+        entry.setValue(counter++);
+        config.save();
+    }
+
+    @Benchmark
+    public String serialize() {
+        StringWriter writer = new StringWriter();
+        config.serialize(() -> new BufferedWriter(writer));
+        return writer.toString();
+    }
+
+    @Benchmark
+    public void deserialize() {
+        config.deserialize(() -> new BufferedReader(new StringReader(content)));
+    }
+
+}
@@ -0,0 +1,80 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.test.data.generator.ConfigGenerator;
+import me.lortseam.completeconfig.test.data.generator.SyntheticEnum;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntryBenchmark {
+
+    private static final SyntheticEnum[] ENUM_VALUES = SyntheticEnum.values();
+
+    private Entry<Integer> plainEntry;
+    private Entry<Integer> boundedEntry;
+    private Entry<Integer> sliderEntry;
+    private Entry<SyntheticEnum> enumEntry;
+    private int counter;
+
+    private static <T> Entry<T> find(Config config, String path) {
+        return (Entry<T>) config.find(path).orElseThrow();
+    }
+
+    @Setup
+    public void setUp() {
+        Config config = BenchmarkConfigs.load(ConfigGenerator.wide(10));
+        plainEntry = find(config, "group0.plainInt");
+        boundedEntry = find(config, "group0.boundedInt");
+        sliderEntry = find(config, "group0.sliderInt");
+        enumEntry = find(config, "group0.anEnum");
+    }
+
+    @Benchmark
+    public Integer getPlain() {
+        return plainEntry.getValue();
+    }
+
+    @Benchmark
+    public Integer getBounded() {
+        return boundedEntry.getValue();
+    }
+
+    @Benchmark
+    public Integer getSlider() {
+        return sliderEntry.getValue();
+    }
+
+    @Benchmark
+    public SyntheticEnum getEnum() {
+        return enumEntry.getValue();
+    }
+
+    // Setters cycle through values, since setting the current value again returns early
+
+    @Benchmark
+    public void setPlain() {
+        plainEntry.setValue(counter++);
+    }
+
+    @Benchmark
+    public void setBounded() {
+        boundedEntry.setValue(counter++ % 100);
+    }
+
+    @Benchmark
+    public void setSlider() {
+        sliderEntry.setValue(counter++ % 10);
+    }
+
+    @Benchmark
+    public void setEnum() {
+        enumEntry.setValue(ENUM_VALUES[counter++ % ENUM_VALUES.length]);
+    }
+
+}
@@ -0,0 +1,41 @@
+package me.lortseam.completeconfig.data;
+
+import me.lortseam.completeconfig.data.transform.Transformation;
+import me.lortseam.completeconfig.test.data.generator.SyntheticGroup;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link Entry#create(EntryOrigin)} finds the transformation of a field. Creating the entry itself cannot
+ * be repeated, since every origin may only be resolved once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransformationBenchmark {
+
+    @Param({"plainInt", "plainString", "boundedInt", "sliderInt", "anEnum", "dropdown"})
+    public String field;
+
+    private ConfigRegistry registry;
+    private EntryOrigin origin;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        var group = new SyntheticGroup("group");
+        Config config = BenchmarkConfigs.create(group);
+        registry = config.getRegistry();
+        origin = new EntryOrigin(config, config, SyntheticGroup.class.getDeclaredField(field), group);
+    }
+
+    @Benchmark
+    public Optional<Transformation> findTransformation() {
+        return registry.findTransformation(origin);
+    }
+
+}
@@ -0,0 +1,63 @@
+package me.lortseam.completeconfig.data.format;
+
+import me.lortseam.completeconfig.data.BenchmarkConfigs;
+import me.lortseam.completeconfig.data.Config;
+import me.lortseam.completeconfig.test.data.generator.ConfigGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing and writing of generated configs in each format.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4G")
+@State(Scope.Thread)
+public class ConfigFormatBenchmark {
+
+    @Param({"1000", "100000"})
+    public int entryCount;
+    @Param({"HOCON", "JSON", "BINARY"})
+    public String formatName;
+
+    private ConfigFormat format;
+    private ConfigurationOptions options;
+    private CommentedConfigurationNode node;
+    private byte[] content;
+
+    @Setup
+    public void setUp() throws IOException {
+        format = switch (formatName) {
+            case "HOCON" -> ConfigFormat.HOCON;
+            case "JSON" -> ConfigFormat.JSON;
+            case "BINARY" -> ConfigFormat.BINARY;
+            default -> throw new IllegalArgumentException("Unknown format " + formatName);
+        };
+        options = format.adaptOptions(ConfigurationOptions.defaults());
+        Config config = BenchmarkConfigs.load(ConfigGenerator.wide(entryCount));
+        StringWriter writer = new StringWriter();
+        config.serialize(() -> new BufferedWriter(writer));
+        node = ConfigFormat.HOCON.read(writer.toString().getBytes(StandardCharsets.UTF_8), options);
+        content = format.write(node);
+    }
+
+    @Benchmark
+    public CommentedConfigurationNode read() throws IOException {
+        return format.read(content, options);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return format.write(node);
+    }
+
+}
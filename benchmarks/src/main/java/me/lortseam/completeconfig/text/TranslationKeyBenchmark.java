@@ -0,0 +1,70 @@
+package me.lortseam.completeconfig.text;
+
+import me.lortseam.completeconfig.data.BenchmarkConfigs;
+import me.lortseam.completeconfig.data.Cluster;
+import me.lortseam.completeconfig.data.Config;
+import me.lortseam.completeconfig.data.Entry;
+import me.lortseam.completeconfig.test.data.generator.ConfigGenerator;
+import net.minecraft.text.Text;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TranslationKeyBenchmark {
+
+    private Config config;
+    private Cluster cluster;
+    private Entry<?> entry;
+    private TranslationKey key;
+
+    @Setup
+    public void setUp() {
+        config = BenchmarkConfigs.load(ConfigGenerator.wide(10));
+        cluster = config.getCluster("group0").orElseThrow();
+        entry = config.find("group0.plainInt").orElseThrow();
+        key = entry.getNameTranslation();
+    }
+
+    @Benchmark
+    public TranslationKey createRoot() {
+        return new TranslationKey(config);
+    }
+
+    @Benchmark
+    public TranslationKey append() {
+        return key.append("value", "true");
+    }
+
+    @Benchmark
+    public String keyToString() {
+        return key.toString();
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return key.exists();
+    }
+
+    @Benchmark
+    public Text toText() {
+        return key.toText();
+    }
+
+    @Benchmark
+    public TranslationKey clusterBaseTranslation() {
+        return cluster.getBaseTranslation();
+    }
+
+    @Benchmark
+    public Optional<TranslationKey> entryDescriptionTranslation() {
+        return entry.getDescriptionTranslation();
+    }
+
+}
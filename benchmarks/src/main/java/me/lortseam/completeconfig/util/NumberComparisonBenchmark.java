@@ -0,0 +1,51 @@
+package me.lortseam.completeconfig.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bound checks of bounded entries. The BigDecimal comparison is how all numbers were compared before
+ * entries picked a comparator for their type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumberComparisonBenchmark {
+
+    private final Comparator<Integer> intComparator = NumberUtils.comparator(Integer.class);
+    private final Comparator<Double> doubleComparator = NumberUtils.comparator(Double.class);
+    private Integer intValue = 5, intBound = 10;
+    private Double doubleValue = 0.5, doubleBound = 1.0;
+
+    @Benchmark
+    public int compareIntBigDecimal() {
+        return new BigDecimal(intValue.toString()).compareTo(new BigDecimal(intBound.toString()));
+    }
+
+    @Benchmark
+    public int compareIntGeneric() {
+        return NumberUtils.compare(intValue, intBound);
+    }
+
+    @Benchmark
+    public int compareIntComparator() {
+        return intComparator.compare(intValue, intBound);
+    }
+
+    @Benchmark
+    public int compareDoubleGeneric() {
+        return NumberUtils.compare(doubleValue, doubleBound);
+    }
+
+    @Benchmark
+    public int compareDoubleComparator() {
+        return doubleComparator.compare(doubleValue, doubleBound);
+    }
+
+}
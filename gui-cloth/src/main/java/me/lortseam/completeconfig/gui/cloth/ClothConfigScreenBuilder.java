@@ -8,6 +8,7 @@ import me.lortseam.completeconfig.CompleteConfig;
 import me.lortseam.completeconfig.data.*;
 import me.lortseam.completeconfig.gui.ConfigScreenBuilder;
 import me.lortseam.completeconfig.gui.GuiProvider;
+import me.lortseam.completeconfig.jfr.ScreenBuildEvent;
 import me.shedaniel.clothconfig2.api.AbstractConfigListEntry;
 import me.shedaniel.clothconfig2.api.ConfigBuilder;
 import me.shedaniel.clothconfig2.api.ConfigCategory;
@@ -33,10 +34,10 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
     private static final List<GuiProvider<AbstractConfigListEntry<?>>> globalProviders = Lists.newArrayList(
             GuiProvider.create(BooleanEntry.class, entry -> {
                         var builder = ConfigEntryBuilder.create()
-                                .startBooleanToggle(entry.getName(), entry.getValue())
+                                .startBooleanToggle(entry.getName(), entry.getBoolean())
                                 .setDefaultValue(entry.getDefaultValue())
                                 .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
-                                .setSaveConsumer(entry::setValue);
+                                .setSaveConsumer(entry::setBoolean);
                         entry.getValueFormatter().ifPresent(builder::setYesNoTextSupplier);
                         return builder.build();
                     },
@@ -57,6 +58,15 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setSaveConsumer(entry::setValue)
                     .build(),
                     int.class, Integer.class),
+            GuiProvider.create(IntEntry.class, (IntEntry entry) -> ConfigEntryBuilder.create()
+                    .startIntField(entry.getName(), entry.getInt())
+                    .setDefaultValue(entry.getDefaultValue())
+                    .setMin(entry.getMin())
+                    .setMax(entry.getMax())
+                    .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
+                    .setSaveConsumer(entry::setInt)
+                    .build(),
+                    int.class),
             GuiProvider.create(SliderEntry.class, (SliderEntry<Integer> entry) -> {
                         var builder = ConfigEntryBuilder.create()
                                 .startIntSlider(entry.getName(), entry.getValue(), entry.getMin(), entry.getMax())
@@ -91,6 +101,15 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setSaveConsumer(entry::setValue)
                     .build(),
                     long.class, Long.class),
+            GuiProvider.create(LongEntry.class, (LongEntry entry) -> ConfigEntryBuilder.create()
+                    .startLongField(entry.getName(), entry.getLong())
+                    .setDefaultValue(entry.getDefaultValue())
+                    .setMin(entry.getMin())
+                    .setMax(entry.getMax())
+                    .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
+                    .setSaveConsumer(entry::setLong)
+                    .build(),
+                    long.class),
             GuiProvider.create(SliderEntry.class, (SliderEntry<Long> entry) -> {
                         var builder = ConfigEntryBuilder.create()
                                 .startLongSlider(entry.getName(), entry.getValue(), entry.getMin(), entry.getMax())
@@ -117,6 +136,15 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setSaveConsumer(entry::setValue)
                     .build(),
                     float.class, Float.class),
+            GuiProvider.create(FloatEntry.class, (FloatEntry entry) -> ConfigEntryBuilder.create()
+                    .startFloatField(entry.getName(), entry.getFloat())
+                    .setDefaultValue(entry.getDefaultValue())
+                    .setMin(entry.getMin())
+                    .setMax(entry.getMax())
+                    .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
+                    .setSaveConsumer(entry::setFloat)
+                    .build(),
+                    float.class),
             GuiProvider.create((Entry<Double> entry) -> ConfigEntryBuilder.create()
                     .startDoubleField(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
@@ -133,6 +161,15 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
                     .setSaveConsumer(entry::setValue)
                     .build(),
                     double.class, Double.class),
+            GuiProvider.create(DoubleEntry.class, (DoubleEntry entry) -> ConfigEntryBuilder.create()
+                    .startDoubleField(entry.getName(), entry.getDouble())
+                    .setDefaultValue(entry.getDefaultValue())
+                    .setMin(entry.getMin())
+                    .setMax(entry.getMax())
+                    .setTooltip(entry.getDescription().map(description -> new Text[]{description}))
+                    .setSaveConsumer(entry::setDouble)
+                    .build(),
+                    double.class),
             GuiProvider.create((Entry<String> entry) -> ConfigEntryBuilder.create()
                     .startStrField(entry.getName(), entry.getValue())
                     .setDefaultValue(entry.getDefaultValue())
@@ -266,10 +303,18 @@ public final class ClothConfigScreenBuilder extends ConfigScreenBuilder<Abstract
 
     @Override
     public Screen build(Screen parentScreen, Config config) {
+        ScreenBuildEvent event = new ScreenBuildEvent();
+        event.begin();
+        Screen screen = buildScreen(parentScreen, config);
+        event.complete(config, config.getEntryCount(), 0);
+        return screen;
+    }
+
+    private Screen buildScreen(Screen parentScreen, Config config) {
         ConfigBuilder builder = supplier.get()
                 .setParentScreen(parentScreen)
                 .setDefaultBackgroundTexture(background)
-                .setSavingRunnable(config::save);
+                .setSavingRunnable(config::saveAsync);
         builder.setTitle(getTitle(config));
         if (!config.getEntries().isEmpty()) {
             ConfigCategory category = builder.getOrCreateCategory(config.getName());
@@ -9,6 +9,7 @@ import me.lortseam.completeconfig.data.*;
 import me.lortseam.completeconfig.gui.ConfigScreenBuilder;
 import me.lortseam.completeconfig.gui.GuiProvider;
 import me.lortseam.completeconfig.gui.yacl.controller.ListController;
+import me.lortseam.completeconfig.jfr.ScreenBuildEvent;
 import net.minecraft.client.gui.screen.Screen;
 
 import java.awt.*;
@@ -65,6 +66,14 @@ public final class YaclScreenBuilder extends ConfigScreenBuilder<ControllerFunct
                         return builder;
                     },
                     int.class, Integer.class),
+            GuiProvider.create(IntEntry.class, (IntEntry entry) -> (Option<Integer> option) -> {
+                        var builder = IntegerFieldControllerBuilder.create(option)
+                                .min(entry.getMin())
+                                .max(entry.getMax());
+                        entry.getValueFormatter().ifPresent(builder::valueFormatter);
+                        return builder;
+                    },
+                    int.class),
             GuiProvider.create(BoundedEntry.class, (BoundedEntry<Long> entry) -> (Option<Long> option) -> {
                         var builder = LongFieldControllerBuilder.create(option)
                                 .min(entry.getMin())
@@ -73,6 +82,14 @@ public final class YaclScreenBuilder extends ConfigScreenBuilder<ControllerFunct
                         return builder;
                     },
                     long.class, Long.class),
+            GuiProvider.create(LongEntry.class, (LongEntry entry) -> (Option<Long> option) -> {
+                        var builder = LongFieldControllerBuilder.create(option)
+                                .min(entry.getMin())
+                                .max(entry.getMax());
+                        entry.getValueFormatter().ifPresent(builder::valueFormatter);
+                        return builder;
+                    },
+                    long.class),
             GuiProvider.create(BoundedEntry.class, (BoundedEntry<Float> entry) -> (Option<Float> option) -> {
                         var builder = FloatFieldControllerBuilder.create(option)
                                 .min(entry.getMin())
@@ -81,6 +98,14 @@ public final class YaclScreenBuilder extends ConfigScreenBuilder<ControllerFunct
                         return builder;
                     },
                     float.class, Float.class),
+            GuiProvider.create(FloatEntry.class, (FloatEntry entry) -> (Option<Float> option) -> {
+                        var builder = FloatFieldControllerBuilder.create(option)
+                                .min(entry.getMin())
+                                .max(entry.getMax());
+                        entry.getValueFormatter().ifPresent(builder::valueFormatter);
+                        return builder;
+                    },
+                    float.class),
             GuiProvider.create(BoundedEntry.class, (BoundedEntry<Double> entry) -> (Option<Double> option) -> {
                         var builder = DoubleFieldControllerBuilder.create(option)
                                 .min(entry.getMin())
@@ -89,6 +114,14 @@ public final class YaclScreenBuilder extends ConfigScreenBuilder<ControllerFunct
                         return builder;
                     },
                     double.class, Double.class),
+            GuiProvider.create(DoubleEntry.class, (DoubleEntry entry) -> (Option<Double> option) -> {
+                        var builder = DoubleFieldControllerBuilder.create(option)
+                                .min(entry.getMin())
+                                .max(entry.getMax());
+                        entry.getValueFormatter().ifPresent(builder::valueFormatter);
+                        return builder;
+                    },
+                    double.class),
             GuiProvider.create(SliderEntry.class, (SliderEntry<Integer> entry) -> (Option<Integer> option) -> {
                         var builder = IntegerSliderControllerBuilder.create(option)
                                 .range(entry.getMin(), entry.getMax())
@@ -161,9 +194,17 @@ public final class YaclScreenBuilder extends ConfigScreenBuilder<ControllerFunct
 
     @Override
     public Screen build(Screen parentScreen, Config config) {
+        ScreenBuildEvent event = new ScreenBuildEvent();
+        event.begin();
+        Screen screen = buildScreen(parentScreen, config);
+        event.complete(config, config.getEntryCount(), 0);
+        return screen;
+    }
+
+    private Screen buildScreen(Screen parentScreen, Config config) {
         var configBuilder = YetAnotherConfigLib.createBuilder()
                 .title(getTitle(config))
-                .save(config::save);
+                .save(config::saveAsync);
         if (!config.getEntries().isEmpty()) {
             // If there is only one cluster, use the config title for the cluster name
             var name = config.getClusters().isEmpty() ? getTitle(config) : config.getName();
@@ -0,0 +1,235 @@
+package me.lortseam.completeconfig.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates resolution metadata for every class implementing {@code ConfigContainer}, so that the runtime does not
+ * need to scan these classes via reflection. For a class with binary name {@code Foo$Bar}, a class named
+ * {@code Foo$Bar_CompleteConfig} implementing {@code ContainerMetadata} is generated into the same package.
+ *
+ * <p>Invalid declarations which would otherwise only fail at runtime, such as final entry fields, are reported as
+ * compile errors.
+ */
+@SupportedAnnotationTypes("*")
+public final class ContainerMetadataProcessor extends AbstractProcessor {
+
+    private static final String CONFIG_CONTAINER = "me.lortseam.completeconfig.api.ConfigContainer";
+    private static final String TRANSITIVE = CONFIG_CONTAINER + ".Transitive";
+    private static final String CONFIG_ENTRY = "me.lortseam.completeconfig.api.ConfigEntry";
+    private static final String CONFIG_ENTRIES = "me.lortseam.completeconfig.api.ConfigEntries";
+    private static final String EXCLUDE = CONFIG_ENTRIES + ".Exclude";
+    private static final String CONTAINER_METADATA = "me.lortseam.completeconfig.data.metadata.ContainerMetadata";
+    private static final String CLASS_SUFFIX = "_CompleteConfig";
+
+    private TypeMirror containerType;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement container = processingEnv.getElementUtils().getTypeElement(CONFIG_CONTAINER);
+        if (container == null) return false;
+        containerType = processingEnv.getTypeUtils().erasure(container.asType());
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement type) {
+                processType(type);
+            }
+        }
+        return false;
+    }
+
+    private void processType(TypeElement type) {
+        if (type.getKind() == ElementKind.CLASS && isContainer(type.asType())) {
+            generate(type);
+        }
+        for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+            processType(nestedType);
+        }
+    }
+
+    private boolean isContainer(TypeMirror type) {
+        return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type), containerType);
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isIncludeAll(TypeElement type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(CONFIG_ENTRIES)) continue;
+            for (var value : mirror.getElementValues().entrySet()) {
+                if (value.getKey().getSimpleName().contentEquals("includeAll")) {
+                    return Boolean.TRUE.equals(value.getValue().getValue());
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConstant(VariableElement field) {
+        return field.getModifiers().contains(Modifier.STATIC) && field.getModifiers().contains(Modifier.FINAL);
+    }
+
+    /**
+     * Checks whether generated code in the package of the specified type can reference the element directly.
+     */
+    private static boolean isAccessible(Element element) {
+        for (Element current = element; current instanceof TypeElement || current instanceof VariableElement || current instanceof ExecutableElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isInstantiable(TypeElement type) {
+        if (!isAccessible(type) || type.getModifiers().contains(Modifier.ABSTRACT)) return false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return !constructor.getModifiers().contains(Modifier.PRIVATE);
+            }
+        }
+        return false;
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void generate(TypeElement type) {
+        boolean includeAll = isIncludeAll(type);
+        List<VariableElement> entryFields = new ArrayList<>();
+        List<VariableElement> transitiveFields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (hasAnnotation(field, TRANSITIVE)) {
+                if (!isContainer(field.asType())) {
+                    error("Transitive field " + field.getSimpleName() + " must implement ConfigContainer", field);
+                    continue;
+                }
+                transitiveFields.add(field);
+            }
+            boolean entry;
+            if (includeAll) {
+                entry = !isContainer(field.asType()) && !hasAnnotation(field, EXCLUDE) && !field.getModifiers().contains(Modifier.TRANSIENT) && !isConstant(field);
+            } else {
+                entry = hasAnnotation(field, CONFIG_ENTRY);
+            }
+            if (!entry) continue;
+            if (field.getModifiers().contains(Modifier.FINAL)) {
+                error("Entry field " + field.getSimpleName() + " must not be final", field);
+                continue;
+            }
+            entryFields.add(field);
+        }
+        List<TypeElement> transitiveClasses = new ArrayList<>();
+        for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+            if (!hasAnnotation(nestedType, TRANSITIVE)) continue;
+            if (!isContainer(nestedType.asType())) {
+                error("Transitive " + nestedType + " must implement ConfigContainer", nestedType);
+            } else if (!nestedType.getModifiers().contains(Modifier.STATIC) && nestedType.getKind() == ElementKind.CLASS) {
+                error("Transitive " + nestedType + " must be static", nestedType);
+            } else {
+                transitiveClasses.add(nestedType);
+            }
+        }
+        write(type, entryFields, transitiveFields, transitiveClasses);
+    }
+
+    private void write(TypeElement type, List<VariableElement> entryFields, List<VariableElement> transitiveFields, List<TypeElement> transitiveClasses) {
+        var elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + CLASS_SUFFIX;
+        String typeName = type.getQualifiedName().toString();
+        boolean typeAccessible = isAccessible(type);
+        JavaFileObject file;
+        try {
+            file = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName, type);
+        } catch (IOException e) {
+            error("Failed to create metadata of " + type + ": " + e.getMessage(), type);
+            return;
+        }
+        try (PrintWriter writer = new PrintWriter(file.openWriter())) {
+            if (!packageName.isEmpty()) {
+                writer.println("package " + packageName + ";");
+                writer.println();
+            }
+            writer.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            writer.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            writer.println("public final class " + simpleName + " implements " + CONTAINER_METADATA + " {");
+            writer.println();
+            writer.println("    private static final java.util.List<String> ENTRY_FIELDS = " + toList(entryFields.stream().map(field -> quote(field.getSimpleName().toString())).toList()) + ";");
+            writer.println("    private static final java.util.List<String> TRANSITIVE_FIELDS = " + toList(transitiveFields.stream().map(field -> quote(field.getSimpleName().toString())).toList()) + ";");
+            writer.println("    private static final java.util.List<String> TRANSITIVE_CLASSES = " + toList(transitiveClasses.stream().map(nestedType -> quote(elements.getBinaryName(nestedType).toString())).toList()) + ";");
+            writer.println();
+            writeGetter(writer, "java.util.List<String>", "getEntryFields", "ENTRY_FIELDS");
+            writeGetter(writer, "java.util.List<String>", "getTransitiveFields", "TRANSITIVE_FIELDS");
+            writeGetter(writer, "java.util.List<String>", "getTransitiveClasses", "TRANSITIVE_CLASSES");
+            writer.println("    @Override");
+            writer.println("    public java.util.function.Function<" + CONFIG_CONTAINER + ", " + CONFIG_CONTAINER + "> getTransitiveFieldAccessor(int index) {");
+            writer.println("        switch (index) {");
+            for (int i = 0; i < transitiveFields.size(); i++) {
+                VariableElement field = transitiveFields.get(i);
+                if (!typeAccessible || !isAccessible(field)) continue;
+                String access = field.getModifiers().contains(Modifier.STATIC) ? typeName : "((" + typeName + ") container)";
+                writer.println("            case " + i + ": return container -> (" + CONFIG_CONTAINER + ") " + access + "." + field.getSimpleName() + ";");
+            }
+            writer.println("            default: return null;");
+            writer.println("        }");
+            writer.println("    }");
+            writer.println();
+            writer.println("    @Override");
+            writer.println("    public java.util.function.Supplier<" + CONFIG_CONTAINER + "> getTransitiveClassFactory(int index) {");
+            writer.println("        switch (index) {");
+            for (int i = 0; i < transitiveClasses.size(); i++) {
+                TypeElement nestedType = transitiveClasses.get(i);
+                if (!isInstantiable(nestedType)) continue;
+                writer.println("            case " + i + ": return () -> new " + nestedType.getQualifiedName() + "();");
+            }
+            writer.println("            default: return null;");
+            writer.println("        }");
+            writer.println("    }");
+            writer.println();
+            writer.println("}");
+        } catch (IOException e) {
+            error("Failed to write metadata of " + type + ": " + e.getMessage(), type);
+        }
+    }
+
+    private static void writeGetter(PrintWriter writer, String type, String name, String constant) {
+        writer.println("    @Override");
+        writer.println("    public " + type + " " + name + "() {");
+        writer.println("        return " + constant + ";");
+        writer.println("    }");
+        writer.println();
+    }
+
+    private static String toList(List<String> values) {
+        return "java.util.List.of(" + String.join(", ", values) + ")";
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+}